@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link CrcCalculator} for every algorithm of the {@link Crc16} catalog.
+ * The {@code bytes} secondary metric is the number of checksummed bytes per second.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CrcCalculatorBenchmark {
+
+    public enum BufferType {
+        HEAP, DIRECT
+    }
+
+    @Param({
+        "Crc16CcittFalse", "Crc16Arc", "Crc16AugCcitt", "Crc16Buypass", "Crc16Cdma2000", "Crc16Dds110",
+        "Crc16DectR", "Crc16DectX", "Crc16Dnp", "Crc16En13757", "Crc16Genibus", "Crc16Maxim", "Crc16Mcrf4Xx",
+        "Crc16Riello", "Crc16T10Dif", "Crc16Teledisk", "Crc16Tms37157", "Crc16Usb", "CrcA", "Crc16Kermit",
+        "Crc16Modbus", "Crc16X25", "Crc16Xmodem"
+    })
+    public String algorithm;
+
+    @Param({"16", "256", "4096", "65536", "1048576", "67108864"})
+    public int size;
+
+    @Param
+    public BufferType bufferType;
+
+    private CrcCalculator crcCalculator;
+    private byte[] data;
+    private ByteBuffer buffer;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+
+        /// Reported by JMH as a rate, i.e. bytes per second.
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        CrcAlgorithm crcAlgorithm = (CrcAlgorithm) Crc16.class.getField(algorithm).get(null);
+        crcCalculator = CrcCalculatorRegistry.get(crcAlgorithm);
+
+        data = new byte[size];
+        new Random(size).nextBytes(data);
+        buffer = bufferType == BufferType.DIRECT ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        buffer.put(data).clear();
+    }
+
+    @Benchmark
+    public long calc(Counters counters) {
+        counters.bytes += size;
+        if (bufferType == BufferType.HEAP) {
+            return crcCalculator.calc(data, 0, size);
+        }
+        buffer.clear();
+        return crcCalculator.calc(buffer);
+    }
+}
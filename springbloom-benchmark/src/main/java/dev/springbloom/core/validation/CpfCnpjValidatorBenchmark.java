@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.validation;
+
+import org.hibernate.validator.constraints.Mod11Check;
+import org.hibernate.validator.internal.constraintvalidators.hv.Mod11CheckValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the single-pass CPF/CNPJ validators with the previous implementation, based on the
+ * {@code @Pattern} constraints and on the Hibernate {@link Mod11CheckValidator}, over a mix of valid
+ * and invalid values, formatted or not. Each operation validates {@value #VALUES} values.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CpfCnpjValidatorBenchmark {
+
+    private static final int VALUES = 1024;
+
+    private static final Pattern DIGITS_ONLY = Pattern.compile("\\d+");
+    private static final Pattern CPF_FORMAT = Pattern.compile("^(\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2})$|^(\\d{11})$");
+    private static final Pattern CPF_REPEATED = Pattern.compile("^(\\d)\\1{2}\\.?\\1{3}\\.?\\1{3}-?\\1{2}$");
+    private static final Pattern CNPJ_FORMAT = Pattern.compile("^(\\d{2}\\.\\d{3}\\.\\d{3}/\\d{4}-\\d{2})$|^(\\d{14})$");
+
+    private final Mod11CheckValidator[] legacyCpfValidators = new Mod11CheckValidator[4];
+    private final Mod11CheckValidator[] legacyCnpjValidators = new Mod11CheckValidator[4];
+
+    private final CpfValidator cpfValidator = new CpfValidator();
+    private final CnpjValidator cnpjValidator = new CnpjValidator();
+    private final CpfOrCnpjValidator cpfOrCnpjValidator = new CpfOrCnpjValidator();
+
+    private CharSequence[] cpfs;
+    private CharSequence[] cnpjs;
+
+    @Setup
+    public void setUp() {
+        // Same configuration as the previous validators: with and without separators, for each check digit.
+        int[][] cpfIndexes = {{0, 10, 12}, {0, 12, 13}, {0, 8, 9}, {0, 9, 10}};
+        int[][] cnpjIndexes = {{0, 14, 16}, {0, 16, 17}, {0, 11, 12}, {0, 12, 13}};
+        for (int i = 0; i < 4; i++) {
+            legacyCpfValidators[i] = mod11Validator(cpfIndexes[i], Integer.MAX_VALUE);
+            legacyCnpjValidators[i] = mod11Validator(cnpjIndexes[i], 9);
+        }
+
+        Random random = new Random(VALUES);
+        cpfs = new CharSequence[VALUES];
+        cnpjs = new CharSequence[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            cpfs[i] = randomValue(random, 11, "###.###.###-##");
+            cnpjs[i] = randomValue(random, 14, "##.###.###/####-##");
+        }
+    }
+
+    @Benchmark
+    public int legacyCpf() {
+        int valid = 0;
+        for (CharSequence cpf : cpfs) {
+            if (CPF_FORMAT.matcher(cpf).matches() && !CPF_REPEATED.matcher(cpf).matches()
+                && legacyIsValid(cpf, legacyCpfValidators)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int cpf() {
+        int valid = 0;
+        for (CharSequence cpf : cpfs) {
+            if (cpfValidator.isValid(cpf)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int legacyCnpj() {
+        int valid = 0;
+        for (CharSequence cnpj : cnpjs) {
+            if (CNPJ_FORMAT.matcher(cnpj).matches() && legacyIsValid(cnpj, legacyCnpjValidators)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int cnpj() {
+        int valid = 0;
+        for (CharSequence cnpj : cnpjs) {
+            if (cnpjValidator.isValid(cnpj)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int[] cpfOrCnpjBulk() {
+        return cpfOrCnpjValidator.validateAll(cnpjs);
+    }
+
+    private static boolean legacyIsValid(CharSequence value, Mod11CheckValidator[] validators) {
+        if (DIGITS_ONLY.matcher(value).matches()) {
+            return validators[2].isValid(value, null) && validators[3].isValid(value, null);
+        } else {
+            return validators[0].isValid(value, null) && validators[1].isValid(value, null);
+        }
+    }
+
+    private static Mod11CheckValidator mod11Validator(int[] indexes, int threshold) {
+        Mod11CheckValidator validator = new Mod11CheckValidator();
+        validator.initialize(
+            indexes[0], indexes[1], indexes[2], true, threshold, '0',
+            '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
+        );
+        return validator;
+    }
+
+    /// Half of the values have valid check digits, and half of them are formatted.
+    private static String randomValue(Random random, int length, String format) {
+        StringBuilder digits = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            digits.append((char) ('0' + random.nextInt(10)));
+        }
+        if (random.nextBoolean()) {
+            int weightLimit = length == 11 ? Integer.MAX_VALUE : 9;
+            fixCheckDigit(digits, length - 2, weightLimit);
+            fixCheckDigit(digits, length - 1, weightLimit);
+        }
+        if (!random.nextBoolean()) {
+            return digits.toString();
+        }
+        StringBuilder formatted = new StringBuilder(format);
+        for (int i = 0, digit = 0; i < formatted.length(); i++) {
+            if (formatted.charAt(i) == '#') {
+                formatted.setCharAt(i, digits.charAt(digit++));
+            }
+        }
+        return formatted.toString();
+    }
+
+    private static void fixCheckDigit(StringBuilder digits, int index, int weightLimit) {
+        int sum = 0;
+        for (int i = index - 1, weight = 2; i >= 0; i--, weight = weight == weightLimit ? 2 : weight + 1) {
+            sum += (digits.charAt(i) - '0') * weight;
+        }
+        int remainder = sum % 11;
+        digits.setCharAt(index, (char) ('0' + (remainder < 2 ? 0 : 11 - remainder)));
+    }
+}
@@ -20,19 +20,33 @@
 package dev.springbloom.core.configuration
 
 import lombok.Getter
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent
 import org.springframework.context.ApplicationContext
 import org.springframework.context.ApplicationContextAware
+import org.springframework.context.ApplicationEvent
+import org.springframework.context.event.SmartApplicationListener
+import java.util.Optional
+import java.util.concurrent.ConcurrentHashMap
 
 /**
  * Provides static access to the Spring application context.
  */
 @Suppress("unused")
-class ApplicationContextProvider : ApplicationContextAware {
+class ApplicationContextProvider : ApplicationContextAware, SmartApplicationListener {
 
     companion object {
         @Getter
         private var context: ApplicationContext? = null
 
+        /**
+         * Properties already resolved by [getCachedProperty], by key and type, until the environment changes.
+         * It is replaced as a whole, never cleared, so a lookup which read the previous environment can only
+         * store its value into the discarded snapshot.
+         */
+        @Volatile
+        private var propertySnapshot = ConcurrentHashMap<PropertyKey, Optional<Any>>()
+
         fun getBean(beanName: String): Any? {
             return context?.getBean(beanName)
         }
@@ -40,9 +54,42 @@ class ApplicationContextProvider : ApplicationContextAware {
         fun getProperty(key: String): String? {
             return context?.environment?.getProperty(key)
         }
+
+        /**
+         * Same as [getProperty], converted to the type, but only the first lookup walks the property sources.
+         * The snapshot is cleared when the environment changes or the refresh scope is refreshed, so use it for
+         * the properties read on every call.
+         */
+        fun <T : Any> getCachedProperty(key: String, type: Class<T>): T? {
+            val snapshot = propertySnapshot
+            val environment = context?.environment ?: return null
+            return snapshot.computeIfAbsent(PropertyKey(key, type)) {
+                Optional.ofNullable(environment.getProperty(key, type))
+            }.map(type::cast).orElse(null)
+        }
+
+        fun <T : Any> getCachedProperty(key: String, type: Class<T>, defaultValue: T): T {
+            return getCachedProperty(key, type) ?: defaultValue
+        }
+
+        fun clearPropertySnapshot() {
+            propertySnapshot = ConcurrentHashMap()
+        }
     }
 
     override fun setApplicationContext(applicationContext: ApplicationContext) {
         context = applicationContext
+        clearPropertySnapshot()
+    }
+
+    override fun supportsEventType(eventType: Class<out ApplicationEvent>): Boolean {
+        return EnvironmentChangeEvent::class.java.isAssignableFrom(eventType)
+            || RefreshScopeRefreshedEvent::class.java.isAssignableFrom(eventType)
     }
+
+    override fun onApplicationEvent(event: ApplicationEvent) {
+        clearPropertySnapshot()
+    }
+
+    private data class PropertyKey(val key: String, val type: Class<*>)
 }
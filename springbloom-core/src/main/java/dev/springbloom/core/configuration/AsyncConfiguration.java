@@ -19,13 +19,37 @@
 package dev.springbloom.core.configuration;
 
 import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Configuration(proxyBeanMethods = false)
@@ -34,8 +58,119 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @ConditionalOnProperty(name = "spring.async.enabled", havingValue = "true")
 public class AsyncConfiguration implements AsyncConfigurer {
 
+    private static final String EXECUTOR_MODE_PROPERTY = "spring.async.executor-mode";
+    private static final String NAMED_EXECUTORS_PROPERTY = "spring.async.virtual.executors";
+
+    private final ObjectProvider<VirtualThreadTaskExecutor> virtualThreadTaskExecutor;
+
+    public AsyncConfiguration(ObjectProvider<VirtualThreadTaskExecutor> virtualThreadTaskExecutor) {
+        this.virtualThreadTaskExecutor = virtualThreadTaskExecutor;
+    }
+
+    /**
+     * The virtual thread executor when it is enabled, otherwise the one auto-configured by Spring Boot.
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        return virtualThreadTaskExecutor.getIfAvailable();
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new SimpleAsyncUncaughtExceptionHandler();
     }
+
+    /**
+     * It replaces the pool auto-configured by Spring Boot, so the components injecting it, like the security
+     * context delegating executor, use the virtual threads too.
+     */
+    @Bean(name = {
+        TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    @ConditionalOnProperty(name = EXECUTOR_MODE_PROPERTY, havingValue = "VIRTUAL")
+    public VirtualThreadTaskExecutor virtualThreadTaskExecutor(
+        @Value("${spring.async.virtual.concurrency-limit:0}") int concurrencyLimit,
+        ObjectProvider<TaskDecorator> taskDecorators
+    ) {
+        log.info("Running the asynchronous tasks in virtual threads...");
+        return createExecutor("async", concurrencyLimit, taskDecorators);
+    }
+
+    /**
+     * The scheduled tasks are not decorated, as they are not triggered by a request whose context could be
+     * propagated.
+     */
+    @Bean(name = "taskScheduler")
+    @ConditionalOnProperty(name = EXECUTOR_MODE_PROPERTY, havingValue = "VIRTUAL")
+    public SimpleAsyncTaskScheduler virtualThreadTaskScheduler(
+        @Value("${spring.async.virtual.scheduling-concurrency-limit:0}") int concurrencyLimit
+    ) {
+        SimpleAsyncTaskScheduler taskScheduler = new SimpleAsyncTaskScheduler();
+        taskScheduler.setVirtualThreads(true);
+        taskScheduler.setThreadNamePrefix("scheduling-trigger-");
+        taskScheduler.setTargetTaskExecutor(new VirtualThreadTaskExecutor("scheduling", concurrencyLimit));
+        return taskScheduler;
+    }
+
+    /**
+     * Registers an executor for each entry of {@code spring.async.virtual.executors}, by its name, so
+     * {@code @Async("name")} methods share their own concurrency limit.
+     */
+    @Bean
+    @ConditionalOnProperty(name = EXECUTOR_MODE_PROPERTY, havingValue = "VIRTUAL")
+    public static BeanDefinitionRegistryPostProcessor namedVirtualThreadTaskExecutorsRegistrar() {
+        return new NamedExecutorsRegistrar();
+    }
+
+    /**
+     * All the {@link TaskDecorator} beans are applied, in order, so each module propagates its own context,
+     * e.g. the locale and request attributes, the security context or the tenant.
+     */
+    static VirtualThreadTaskExecutor createExecutor(
+        String name, int concurrencyLimit, ObjectProvider<TaskDecorator> taskDecorators
+    ) {
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor(name, concurrencyLimit);
+        List<TaskDecorator> decorators = taskDecorators.orderedStream().toList();
+        if (!decorators.isEmpty()) {
+            executor.setTaskDecorator(decorators.size() == 1 ? decorators.get(0) : new CompositeTaskDecorator(decorators));
+        }
+        return executor;
+    }
+
+    private static class NamedExecutorsRegistrar
+        implements BeanDefinitionRegistryPostProcessor, EnvironmentAware, BeanFactoryAware {
+
+        private Environment environment;
+        private BeanFactory beanFactory;
+
+        @Override
+        public void setEnvironment(@NotNull Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public void setBeanFactory(@NotNull BeanFactory beanFactory) {
+            this.beanFactory = beanFactory;
+        }
+
+        @Override
+        public void postProcessBeanDefinitionRegistry(@NotNull BeanDefinitionRegistry registry) throws BeansException {
+            Map<String, Integer> concurrencyLimits = Binder.get(environment)
+                .bind(NAMED_EXECUTORS_PROPERTY, Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of());
+
+            concurrencyLimits.forEach((name, concurrencyLimit) -> {
+                log.info("Registering the virtual thread executor '{}' limited to {} tasks...", name, concurrencyLimit);
+                AbstractBeanDefinition beanDefinition = BeanDefinitionBuilder
+                    .genericBeanDefinition(VirtualThreadTaskExecutor.class, () -> createExecutor(
+                        name, concurrencyLimit, beanFactory.getBeanProvider(TaskDecorator.class)
+                    ))
+                    .getBeanDefinition();
+                // Only the default executor is autowired by type.
+                beanDefinition.setAutowireCandidate(false);
+                registry.registerBeanDefinition(name, beanDefinition);
+            });
+        }
+    }
 }
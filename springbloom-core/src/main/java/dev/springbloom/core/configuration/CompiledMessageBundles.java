@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.configuration;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * All properties files of the application merged at build time (see {@link CompiledMessageBundlesGenerator}) into
+ * a single indexed file, so the message sources don't need to scan the Classpath for each basename and locale.
+ * <p>
+ * Files are indexed by their name without the {@code .properties} suffix, e.g. {@code i18n/exceptions_pt_BR},
+ * and hold the merge of all files with the same name found within the Classpath. Any file below one of the
+ * compiled locations which is not in the index simply does not exist.
+ */
+@SuppressWarnings("unused")
+public final class CompiledMessageBundles {
+
+    public static final String DEFAULT_LOCATION = "classpath:META-INF/springbloom/i18n-bundles.bin";
+
+    /// "I18B"
+    private static final int MAGIC = 0x49313842;
+    private static final int VERSION = 1;
+
+    private final List<String> locations;
+    private final Map<String, Map<String, String>> files;
+
+    CompiledMessageBundles(List<String> locations, Map<String, Map<String, String>> files) {
+        this.locations = List.copyOf(locations);
+        this.files = Map.copyOf(files);
+    }
+
+    /**
+     * Loads the compiled file in a single read, or returns {@code null} when it does not exist.
+     */
+    @Nullable
+    public static CompiledMessageBundles load(Resource resource) throws IOException {
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream inputStream = resource.getInputStream()) {
+            return read(inputStream.readAllBytes());
+        }
+    }
+
+    static CompiledMessageBundles read(byte[] bytes) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            throw new IOException("Invalid compiled message bundles");
+        }
+        List<String> locations = new ArrayList<>();
+        for (int i = input.readInt(); i > 0; i--) {
+            locations.add(readString(input));
+        }
+        Map<String, Map<String, String>> files = new HashMap<>();
+        for (int i = input.readInt(); i > 0; i--) {
+            String filename = readString(input);
+            int size = input.readInt();
+            Map<String, String> messages = new HashMap<>(size * 4 / 3 + 1);
+            for (int j = 0; j < size; j++) {
+                messages.put(readString(input), readString(input));
+            }
+            files.put(filename, Collections.unmodifiableMap(messages));
+        }
+        return new CompiledMessageBundles(locations, files);
+    }
+
+    void write(OutputStream outputStream) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(buffer);
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(locations.size());
+        for (String location : locations) {
+            writeString(output, location);
+        }
+        output.writeInt(files.size());
+        // Sorted so the same files always produce the same output.
+        for (Map.Entry<String, Map<String, String>> file : new TreeMap<>(files).entrySet()) {
+            writeString(output, file.getKey());
+            output.writeInt(file.getValue().size());
+            for (Map.Entry<String, String> message : new TreeMap<>(file.getValue()).entrySet()) {
+                writeString(output, message.getKey());
+                writeString(output, message.getValue());
+            }
+        }
+        output.flush();
+        buffer.writeTo(outputStream);
+    }
+
+    /**
+     * Returns the merged messages of the file, empty if it does not exist, or {@code null} if the file is not
+     * below any compiled location, so it must be loaded from the Classpath.
+     *
+     * @param filename The file name without the {@code .properties} suffix, optionally starting with
+     *                 {@code classpath*:}.
+     */
+    @Nullable
+    public Map<String, String> getMessages(String filename) {
+        String name = stripClasspathAllPrefix(filename);
+        Map<String, String> messages = files.get(name);
+        if (messages != null) {
+            return messages;
+        }
+        for (String location : locations) {
+            if (name.startsWith(location)) {
+                return Map.of();
+            }
+        }
+        return null;
+    }
+
+    public List<String> getLocations() {
+        return locations;
+    }
+
+    public Set<String> getFilenames() {
+        return files.keySet();
+    }
+
+    static String stripClasspathAllPrefix(String location) {
+        return location.startsWith(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX)
+            ? location.substring(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX.length())
+            : location;
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+}
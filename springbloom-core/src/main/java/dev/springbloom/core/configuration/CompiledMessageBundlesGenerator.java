@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Merges all properties files found below the given locations, within the Classpath, into the
+ * {@link CompiledMessageBundles} file. It is executed at build time by the {@code compile-i18n-bundles} profile
+ * of the parent POM, as its output is only complete when generated with the final Classpath of the application:
+ * <pre>
+ * java CompiledMessageBundlesGenerator &lt;output file&gt; &lt;encoding&gt; classpath*:i18n/[,&lt;location&gt;...]
+ * </pre>
+ */
+@Slf4j
+public final class CompiledMessageBundlesGenerator {
+
+    private static final String PROPERTIES_SUFFIX = ".properties";
+
+    private final ResourcePatternResolver resolver;
+    private final Charset encoding;
+
+    public CompiledMessageBundlesGenerator(ResourcePatternResolver resolver, Charset encoding) {
+        this.resolver = resolver;
+        this.encoding = encoding;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("Usage: <output file> <encoding> <location>[,<location>...]");
+        }
+        Path output = Path.of(args[0]);
+        List<String> locations = Arrays.stream(args[2].split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+
+        CompiledMessageBundles bundles =
+            new CompiledMessageBundlesGenerator(new PathMatchingResourcePatternResolver(), Charset.forName(args[1]))
+                .generate(locations);
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream outputStream = Files.newOutputStream(output)) {
+            bundles.write(outputStream);
+        }
+        log.info("Compiled {} i18n files into: {}", bundles.getFilenames().size(), output);
+    }
+
+    /**
+     * @param locations Directories, e.g. {@code classpath*:i18n/}, whose properties files will be compiled.
+     */
+    public CompiledMessageBundles generate(List<String> locations) throws IOException {
+        List<String> names = new ArrayList<>(locations.size());
+        Map<String, Properties> files = new LinkedHashMap<>();
+        for (String location : locations) {
+            String directory = location.endsWith("/") ? location : location + "/";
+            String name = CompiledMessageBundles.stripClasspathAllPrefix(directory);
+            names.add(name);
+
+            // Each root is resolved on its own, so the file names are relative to the Classpath
+            // and files with the same name are merged in the same order they are at runtime.
+            for (Resource root : resolver.getResources(directory)) {
+                String rootUrl = root.getURL().toString();
+                for (Resource resource : resolver.getResources(rootUrl + "**/*" + PROPERTIES_SUFFIX)) {
+                    String url = resource.getURL().toString();
+                    String filename = name + url.substring(rootUrl.length(), url.length() - PROPERTIES_SUFFIX.length());
+                    try (InputStream inputStream = resource.getInputStream()) {
+                        files.computeIfAbsent(filename, key -> new Properties())
+                            .load(new InputStreamReader(inputStream, encoding));
+                    }
+                }
+            }
+        }
+
+        Map<String, Map<String, String>> messages = new HashMap<>();
+        files.forEach((filename, properties) -> {
+            Map<String, String> fileMessages = new HashMap<>();
+            properties.forEach((key, value) -> fileMessages.put((String) key, (String) value));
+            messages.put(filename, fileMessages);
+        });
+        return new CompiledMessageBundles(names, messages);
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link org.springframework.context.MessageSource} implementation which, like
+ * {@link PathMatchingReloadableResourceBundleMessageSource}, merges all properties files with the same name
+ * found within the Classpath when the basename starts with {@code classpath*:}.
+ * <p>
+ * All messages of a locale are loaded at once, on its first use, into an immutable snapshot, where each code
+ * is resolved to its message and to its {@link MessageFormat}, compiled only once. Resolving a code never locks
+ * nor touches the file system, and, unlike {@link AbstractMessageSource}, which synchronizes on the shared
+ * {@link MessageFormat}, the messages with arguments are formatted with a copy of the compiled format. Instead of checking the files periodically, the directories of the files loaded from the
+ * file system (i.e. not from JARs) are watched, and a new snapshot is atomically swapped in when they change.
+ * <p>
+ * When the application was built with the {@code compile-i18n-bundles} profile and enables
+ * {@link #setUseCompiledBundles(boolean)}, the files below the compiled locations are read from the
+ * {@link CompiledMessageBundles} instead of scanning the Classpath for them. It is disabled by default, since the
+ * files missing from the index, e.g. one built for a library, would be ignored.
+ */
+@Slf4j
+public class CompiledResourceBundleMessageSource extends AbstractMessageSource implements DisposableBean {
+
+    private static final String PROPERTIES_SUFFIX = ".properties";
+
+    /// Delay used to coalesce the file system events of a single change, e.g. when saving many files at once.
+    private static final long RELOAD_DELAY_MILLIS = 200;
+
+    private final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+
+    private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+
+    private List<String> basenames = List.of();
+    private Charset defaultEncoding = StandardCharsets.ISO_8859_1;
+    private boolean fallbackToSystemLocale = true;
+    private boolean watchFiles = true;
+    private String compiledBundlesLocation = CompiledMessageBundles.DEFAULT_LOCATION;
+    private boolean useCompiledBundles;
+
+    private volatile Snapshot snapshot = new Snapshot();
+
+    private WatchService watchService;
+
+    /// Loaded on first use, empty when there are no compiled bundles.
+    private volatile Optional<CompiledMessageBundles> compiledBundles;
+
+    public void setBasenames(String... basenames) {
+        this.basenames = List.of(basenames);
+        this.snapshot = new Snapshot();
+    }
+
+    public void setDefaultEncoding(String defaultEncoding) {
+        this.defaultEncoding = Charset.forName(defaultEncoding);
+    }
+
+    public void setFallbackToSystemLocale(boolean fallbackToSystemLocale) {
+        this.fallbackToSystemLocale = fallbackToSystemLocale;
+    }
+
+    /**
+     * Whether the files loaded from the file system must be watched for changes. Enabled by default.
+     */
+    public void setWatchFiles(boolean watchFiles) {
+        this.watchFiles = watchFiles;
+    }
+
+    public void setCompiledBundlesLocation(String compiledBundlesLocation) {
+        this.compiledBundlesLocation = compiledBundlesLocation;
+        this.compiledBundles = null;
+    }
+
+    /**
+     * Whether the {@link CompiledMessageBundles}, if any, must be used instead of scanning the Classpath.
+     * Disabled by default.
+     */
+    public void setUseCompiledBundles(boolean useCompiledBundles) {
+        this.useCompiledBundles = useCompiledBundles;
+    }
+
+    /**
+     * Discards all messages, which will be loaded again on their next use.
+     */
+    public void clearCache() {
+        this.snapshot = new Snapshot();
+    }
+
+    @Nullable
+    @Override
+    protected String resolveCodeWithoutArguments(@NotNull String code, @NotNull Locale locale) {
+        CompiledMessage message = snapshot.messages(locale).get(code);
+        return message != null ? message.message : null;
+    }
+
+    /**
+     * Formats the messages with arguments without synchronizing on their shared {@link MessageFormat}.
+     * The common messages and the parent are still resolved by the {@link AbstractMessageSource}.
+     */
+    @Nullable
+    @Override
+    protected String getMessageInternal(@Nullable String code, @Nullable Object[] args, @Nullable Locale locale) {
+        if (code == null || (ObjectUtils.isEmpty(args) && !isAlwaysUseMessageFormat())) {
+            return super.getMessageInternal(code, args, locale);
+        }
+        Locale localeToUse = locale != null ? locale : Locale.getDefault();
+        CompiledMessage message = snapshot.messages(localeToUse).get(code);
+        if (message == null) {
+            return super.getMessageInternal(code, args, localeToUse);
+        }
+        return message.format(resolveArguments(args, localeToUse), localeToUse);
+    }
+
+    @Nullable
+    @Override
+    protected MessageFormat resolveCode(@NotNull String code, @NotNull Locale locale) {
+        CompiledMessage message = snapshot.messages(locale).get(code);
+        return message != null ? message.messageFormat(locale) : null;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        synchronized (watchedDirectories) {
+            if (watchService != null) {
+                watchService.close();
+                watchService = null;
+            }
+        }
+    }
+
+    /**
+     * Loads all files of the locale, in the same order as the {@code ReloadableResourceBundleMessageSource}:
+     * the first basename wins, and within a basename, the most specific locale wins.
+     */
+    private Map<String, CompiledMessage> loadMessages(Locale locale) {
+        Map<String, CompiledMessage> messages = new HashMap<>();
+        for (int i = basenames.size() - 1; i >= 0; i--) {
+            List<String> filenames = filenames(basenames.get(i).trim(), locale);
+            for (int j = filenames.size() - 1; j >= 0; j--) {
+                for (Map.Entry<Object, Object> entry : loadProperties(filenames.get(j)).entrySet()) {
+                    messages.put((String) entry.getKey(), new CompiledMessage((String) entry.getValue()));
+                }
+            }
+        }
+        return Map.copyOf(messages);
+    }
+
+    /// Filenames from the most to the least specific one.
+    private List<String> filenames(String basename, Locale locale) {
+        List<String> filenames = new ArrayList<>(localeFilenames(basename, locale));
+        Locale defaultLocale = fallbackToSystemLocale ? Locale.getDefault() : null;
+        if (defaultLocale != null && !defaultLocale.equals(locale)) {
+            for (String filename : localeFilenames(basename, defaultLocale)) {
+                if (!filenames.contains(filename)) {
+                    filenames.add(filename);
+                }
+            }
+        }
+        filenames.add(basename);
+        return filenames;
+    }
+
+    private static List<String> localeFilenames(String basename, Locale locale) {
+        List<String> filenames = new ArrayList<>(3);
+        String language = locale.getLanguage();
+        String country = locale.getCountry();
+        String variant = locale.getVariant();
+        StringBuilder filename = new StringBuilder(basename);
+        filename.append('_');
+        if (!language.isEmpty()) {
+            filename.append(language);
+            filenames.add(0, filename.toString());
+        }
+        filename.append('_');
+        if (!country.isEmpty()) {
+            filename.append(country);
+            filenames.add(0, filename.toString());
+        }
+        if (!variant.isEmpty() && (!language.isEmpty() || !country.isEmpty())) {
+            filename.append('_').append(variant);
+            filenames.add(0, filename.toString());
+        }
+        return filenames;
+    }
+
+    private Properties loadProperties(String filename) {
+        Properties properties = new Properties();
+        Map<String, String> compiledMessages = useCompiledBundles
+            ? compiledBundles().map(bundles -> bundles.getMessages(filename)).orElse(null)
+            : null;
+        if (compiledMessages != null) {
+            properties.putAll(compiledMessages);
+            return properties;
+        }
+
+        String location = filename + PROPERTIES_SUFFIX;
+        try {
+            Resource[] resources = filename.startsWith(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX)
+                ? resolver.getResources(location)
+                : new Resource[]{resolver.getResource(location)};
+            for (Resource resource : resources) {
+                if (!resource.exists()) {
+                    continue;
+                }
+                log.info("Loading resource: {}", resource.getURI());
+                try (InputStream inputStream = resource.getInputStream()) {
+                    properties.load(new InputStreamReader(inputStream, defaultEncoding));
+                }
+                if (watchFiles && resource.isFile()) {
+                    watch(resource.getFile().toPath().toAbsolutePath().getParent());
+                }
+            }
+        } catch (IOException ex) {
+            // Ignore any exception!
+            log.warn("Error while getting resources: {}", location, ex);
+        }
+        return properties;
+    }
+
+    private Optional<CompiledMessageBundles> compiledBundles() {
+        Optional<CompiledMessageBundles> bundles = compiledBundles;
+        if (bundles == null) {
+            synchronized (this) {
+                bundles = compiledBundles;
+                if (bundles == null) {
+                    bundles = Optional.ofNullable(loadCompiledBundles(compiledBundlesLocation));
+                    compiledBundles = bundles;
+                }
+            }
+        }
+        return bundles;
+    }
+
+    @Nullable
+    private CompiledMessageBundles loadCompiledBundles(String location) {
+        try {
+            CompiledMessageBundles bundles = CompiledMessageBundles.load(resolver.getResource(location));
+            if (bundles != null) {
+                log.info("Loading compiled i18n files: {} {}", location, bundles.getLocations());
+            }
+            return bundles;
+        } catch (IOException ex) {
+            log.warn("Error while loading the compiled i18n files: {}", location, ex);
+            return null;
+        }
+    }
+
+    private void watch(Path directory) throws IOException {
+        if (watchedDirectories.contains(directory)) {
+            return;
+        }
+        synchronized (watchedDirectories) {
+            if (watchService == null) {
+                watchService = FileSystems.getDefault().newWatchService();
+                Thread watcher = new Thread(this::watchLoop, "i18n-watcher");
+                watcher.setDaemon(true);
+                watcher.start();
+            }
+            if (watchedDirectories.add(directory)) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        }
+    }
+
+    private void watchLoop() {
+        WatchService service = watchService;
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = drain(key);
+                // Coalesces the events of the same change into a single reload.
+                while ((key = service.poll(RELOAD_DELAY_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(key);
+                }
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ex) {
+            // Destroyed.
+        }
+    }
+
+    private static boolean drain(WatchKey key) {
+        boolean changed = key.pollEvents().stream()
+            .anyMatch(event -> String.valueOf(event.context()).endsWith(PROPERTIES_SUFFIX));
+        key.reset();
+        return changed;
+    }
+
+    /**
+     * Loads the locales in use into a new snapshot before swapping it in, so lookups never wait for the files.
+     */
+    private void reload() {
+        Snapshot current = snapshot;
+        Snapshot reloaded = new Snapshot();
+        for (Locale locale : current.locales()) {
+            reloaded.messages(locale);
+        }
+        snapshot = reloaded;
+        log.info("Reloaded i18n files for locales: {}", reloaded.locales());
+    }
+
+    /**
+     * Immutable messages of each locale. Locales are added on their first use only.
+     */
+    private class Snapshot {
+
+        private final Map<Locale, Map<String, CompiledMessage>> messagesByLocale = new ConcurrentHashMap<>();
+
+        Map<String, CompiledMessage> messages(Locale locale) {
+            Map<String, CompiledMessage> messages = messagesByLocale.get(locale);
+            return messages != null ? messages : messagesByLocale.computeIfAbsent(locale, key -> loadMessages(key));
+        }
+
+        Set<Locale> locales() {
+            return messagesByLocale.keySet();
+        }
+    }
+
+    private class CompiledMessage {
+
+        private final String message;
+
+        /// Compiled on first use, since most messages are never used with arguments.
+        private volatile MessageFormat messageFormat;
+
+        CompiledMessage(String message) {
+            this.message = message;
+        }
+
+        MessageFormat messageFormat(Locale locale) {
+            MessageFormat format = messageFormat;
+            if (format == null) {
+                format = createMessageFormat(message, locale);
+                messageFormat = format;
+            }
+            return format;
+        }
+
+        /// The compiled format is shared, so each call formats with its own copy of it.
+        String format(Object[] args, Locale locale) {
+            return ((MessageFormat) messageFormat(locale).clone()).format(args);
+        }
+    }
+}
@@ -19,20 +19,31 @@
 package dev.springbloom.core.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.module.kotlin.KotlinModule;
+import dev.springbloom.core.json.ObjectMapperRegistry;
+import dev.springbloom.core.mapper.CompiledMapper;
+import dev.springbloom.core.validation.ValidationUtils;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
 import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
-import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.*;
-import org.springframework.validation.Validator;
+import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
 @Configuration(proxyBeanMethods = false)
 @EnableAspectJAutoProxy // Enables support for handling components marked with AspectJ's @Aspect annotation.
-@AutoConfigureBefore({ValidationAutoConfiguration.class})
+@AutoConfigureBefore({
+    ValidationAutoConfiguration.class,
+    // So their default executors back off when the virtual thread ones are enabled.
+    TaskExecutionAutoConfiguration.class,
+    TaskSchedulingAutoConfiguration.class
+})
 @PropertySource("classpath:application-springbloom-core.properties")
 @Import({
     // Need to be auto-loaded too.
@@ -44,9 +55,19 @@ import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 public class DefaultAutoConfiguration {
 
     @Bean
+    public ObjectMapperRegistry objectMapperRegistry() {
+        // The same instance used by the classes not managed by Spring.
+        return ObjectMapperRegistry.getDefault();
+    }
+
+    /**
+     * A copy of the mapper of the registry, configured the same way. Prefer the readers and writers of the
+     * {@link ObjectMapperRegistry} on hot paths, as they share their serializer cache.
+     */
+    @Bean
     @Scope("prototype") // So you can reset the settings without affecting the others.
-    public ObjectMapper defaultObjectMapper() {
-        return new ObjectMapper().registerModule(new KotlinModule.Builder().build());
+    public ObjectMapper defaultObjectMapper(ObjectMapperRegistry objectMapperRegistry) {
+        return objectMapperRegistry.copyObjectMapper();
     }
 
     @Bean
@@ -60,13 +81,42 @@ public class DefaultAutoConfiguration {
         return modelMapper;
     }
 
+    /**
+     * Singleton, its compiled mappings are shared by the whole application. Prefer it to the {@link ModelMapper}
+     * on hot paths.
+     */
+    @Bean
+    public CompiledMapper compiledMapper() {
+        return new CompiledMapper();
+    }
+
     @Bean
     @Primary
-    @RefreshScope // It forces the LocalValidatorFactoryBean to generate a new MessageInterpolator!
-    public Validator customValidator(MessageSource messageSource) {
-        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
-        validator.setValidationMessageSource(messageSource);
-        return validator;
+    // Refreshed to generate a new MessageInterpolator, which caches the messages!
+    public RefreshableValidator customValidator(MessageSource messageSource, ApplicationContext applicationContext) {
+        return new RefreshableValidator(() -> {
+            LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+            validator.setValidationMessageSource(messageSource);
+            validator.setApplicationContext(applicationContext);
+            validator.afterPropertiesSet();
+            return validator;
+        });
+    }
+
+    @Bean
+    public ApplicationListener<EnvironmentChangeEvent> validatedInstancesCleaner() {
+        // The configuration properties may have been rebound, so they must be validated again.
+        return event -> ValidationUtils.Companion.clearValidatedInstances();
+    }
+
+    @Bean
+    public ApplicationListener<ContextClosedEvent> sharedValidatorFactoryCloser(ApplicationContext applicationContext) {
+        // Only when this context is closed, not its children.
+        return event -> {
+            if (event.getApplicationContext() == applicationContext) {
+                ValidationUtils.Companion.close();
+            }
+        };
     }
 
     @Bean
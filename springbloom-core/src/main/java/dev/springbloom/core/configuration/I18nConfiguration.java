@@ -22,14 +22,13 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
-import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -54,11 +53,24 @@ public class I18nConfiguration {
         new String[]{"classpath*:i18n/exceptions", "classpath*:i18n/http-exceptions", "classpath*:i18n/templates",
             "classpath*:i18n/default-validation-messages", "classpath*:i18n/validation-messages"};
 
+    /**
+     * Created again, from the current properties, on each refresh of the refresh scope.
+     */
     @Bean
-    @RefreshScope
-    public MessageSource messageSource(
-        @Value("${i18n.files}") String i18nFilesProperty,
-        @Value("${i18n.files.encoding:ISO-8859-1}") String i18nFilesEncoding
+    public RefreshableMessageSource messageSource(Environment environment) {
+        return new RefreshableMessageSource(() -> createMessageSource(
+            environment.getRequiredProperty("i18n.files"),
+            environment.getProperty("i18n.files.encoding", "ISO-8859-1"),
+            environment.getProperty("i18n.files.watch", Boolean.class, true),
+            environment.getProperty("i18n.files.compiled", Boolean.class, false)
+        ));
+    }
+
+    private static MessageSource createMessageSource(
+        String i18nFilesProperty,
+        String i18nFilesEncoding,
+        boolean i18nFilesWatch,
+        boolean i18nFilesCompiled
     ) {
         String[] i18nFiles = null;
         if (StringUtils.isNotBlank(i18nFilesProperty)) {
@@ -67,9 +79,9 @@ public class I18nConfiguration {
         String[] i18nAllFiles = ArrayUtils.addAll(i18nDefaultFiles, i18nFiles);
 
         log.info("Loading i18n files: {}", Arrays.toString(i18nAllFiles));
-        PathMatchingReloadableResourceBundleMessageSource source =
-            new PathMatchingReloadableResourceBundleMessageSource();
-        source.setCacheSeconds(300); // Reload messages every 5 minutes
+        CompiledResourceBundleMessageSource source = new CompiledResourceBundleMessageSource();
+        source.setWatchFiles(i18nFilesWatch); // Reload messages when the files change
+        source.setUseCompiledBundles(i18nFilesCompiled); // Files merged at build time, if any
         source.setBasenames(i18nAllFiles);
 
         return switch (i18nFilesEncoding) {
@@ -18,6 +18,7 @@
  */
 package dev.springbloom.core.configuration;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
@@ -26,11 +27,17 @@ import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
  * {@link org.springframework.context.MessageSource} implementation responsible for searching
  * all properties files (<b>FILES WITH THE SAME NAME</b>) contained within Classpath.
+ * <p>
+ * When enabled with {@link #setUseCompiledBundles(boolean)}, files already merged at build time into the
+ * {@link CompiledMessageBundles} are read from it, in a single read, instead of scanning the Classpath. It is
+ * disabled by default, since the files missing from the index, e.g. one built for a library, would be ignored.
  */
 @Slf4j
 public class PathMatchingReloadableResourceBundleMessageSource extends ReloadableResourceBundleMessageSource {
@@ -39,6 +46,12 @@ public class PathMatchingReloadableResourceBundleMessageSource extends Reloadabl
 
     private final PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
 
+    @Setter
+    private boolean useCompiledBundles;
+
+    /// Loaded on first use, empty when there are no compiled bundles.
+    private volatile Optional<CompiledMessageBundles> compiledBundles;
+
     @NotNull
     @Override
     protected PropertiesHolder refreshProperties(@NotNull String filename, PropertiesHolder propHolder) {
@@ -51,6 +64,14 @@ public class PathMatchingReloadableResourceBundleMessageSource extends Reloadabl
 
     private PropertiesHolder refreshClassPathProperties(String filename, PropertiesHolder propHolder) {
         Properties properties = new Properties();
+        Map<String, String> compiledMessages = useCompiledBundles
+            ? compiledBundles().map(bundles -> bundles.getMessages(filename)).orElse(null)
+            : null;
+        if (compiledMessages != null) {
+            properties.putAll(compiledMessages);
+            return new PropertiesHolder(properties, -1);
+        }
+
         long lastModified = -1;
         try {
             Resource[] resources = resolver.getResources(filename + PROPERTIES_SUFFIX);
@@ -72,4 +93,24 @@ public class PathMatchingReloadableResourceBundleMessageSource extends Reloadabl
         }
         return new PropertiesHolder(properties, lastModified);
     }
+
+    private Optional<CompiledMessageBundles> compiledBundles() {
+        Optional<CompiledMessageBundles> bundles = compiledBundles;
+        if (bundles == null) {
+            synchronized (this) {
+                bundles = compiledBundles;
+                if (bundles == null) {
+                    try {
+                        bundles = Optional.ofNullable(CompiledMessageBundles.load(
+                            resolver.getResource(CompiledMessageBundles.DEFAULT_LOCATION)));
+                    } catch (IOException ex) {
+                        log.warn("Error while loading the compiled i18n files!", ex);
+                        bundles = Optional.empty();
+                    }
+                    compiledBundles = bundles;
+                }
+            }
+        }
+        return bundles;
+    }
 }
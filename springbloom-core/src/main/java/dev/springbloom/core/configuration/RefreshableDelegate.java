@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A bean that keeps the same reference while its delegate is created again, and swapped atomically, whenever
+ * the refresh scope is refreshed.
+ * <p>
+ * It is an alternative to {@code @RefreshScope} for very hot beans, whose scoped proxy would look up the target
+ * in the scope cache, under a lock, on every call. Here each call just reads a volatile field.
+ *
+ * @param <T> The type of the delegate
+ */
+@Slf4j
+public abstract class RefreshableDelegate<T>
+    implements ApplicationListener<RefreshScopeRefreshedEvent>, Ordered, DisposableBean {
+
+    /// Long enough for the calls which read the previous delegate before the swap to be done.
+    public static final Duration DEFAULT_DESTROY_DELAY = Duration.ofSeconds(30);
+
+    private final Supplier<? extends T> factory;
+
+    private volatile T delegate;
+
+    /// Previous delegates, not destroyed yet.
+    private final Set<T> retiredDelegates = ConcurrentHashMap.newKeySet();
+
+    private Duration destroyDelay = DEFAULT_DESTROY_DELAY;
+
+    /**
+     * @param factory Creates the delegate from the current environment, once now and once for each refresh
+     */
+    protected RefreshableDelegate(Supplier<? extends T> factory) {
+        this.factory = factory;
+        this.delegate = factory.get();
+    }
+
+    public T getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Delay after which the previous delegate is destroyed, once swapped.
+     */
+    public void setDestroyDelay(Duration destroyDelay) {
+        this.destroyDelay = destroyDelay;
+    }
+
+    /**
+     * Creates the new delegate before swapping it, so the calls made meanwhile still use the previous one.
+     * <p>
+     * The previous delegate is destroyed only after the {@link #setDestroyDelay(Duration) destroy delay}, since
+     * calls which read it before the swap may still be running. Concurrent refreshes are serialized, so each one
+     * sees the delegate created by the one before.
+     */
+    public synchronized void refresh() {
+        T previousDelegate = delegate;
+        T newDelegate = factory.get();
+        onRefresh(previousDelegate, newDelegate);
+        delegate = newDelegate;
+
+        retiredDelegates.add(previousDelegate);
+        CompletableFuture.runAsync(
+            () -> destroyRetired(previousDelegate),
+            CompletableFuture.delayedExecutor(destroyDelay.toMillis(), TimeUnit.MILLISECONDS)
+        );
+    }
+
+    @Override
+    public void onApplicationEvent(@NotNull RefreshScopeRefreshedEvent event) {
+        log.debug("Refreshing {}...", getClass().getSimpleName());
+        refresh();
+    }
+
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+
+    /**
+     * Destroys the current delegate, along with the previous ones not destroyed yet, once the application context
+     * is closing.
+     */
+    @Override
+    public synchronized void destroy() {
+        for (T retiredDelegate : retiredDelegates) {
+            destroyRetired(retiredDelegate);
+        }
+        destroy(delegate);
+    }
+
+    /**
+     * Hook to copy the state of the previous delegate, which is not created by the factory, into the new one.
+     */
+    protected void onRefresh(T previousDelegate, T newDelegate) {
+    }
+
+    /// Either after the delay or on shutdown, whichever comes first.
+    private void destroyRetired(T retiredDelegate) {
+        if (retiredDelegates.remove(retiredDelegate)) {
+            destroy(retiredDelegate);
+        }
+    }
+
+    private static void destroy(Object delegate) {
+        try {
+            if (delegate instanceof DisposableBean disposableBean) {
+                disposableBean.destroy();
+            } else if (delegate instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        } catch (Exception e) {
+            log.warn("It was not possible to destroy the {}!", delegate.getClass().getSimpleName(), e);
+        }
+    }
+}
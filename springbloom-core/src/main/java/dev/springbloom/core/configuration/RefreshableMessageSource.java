@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.configuration;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.context.HierarchicalMessageSource;
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * A {@link MessageSource} created again on each refresh, see {@link RefreshableDelegate}. The parent set by the
+ * application context is kept by the new delegates.
+ */
+@SuppressWarnings("unused")
+public class RefreshableMessageSource extends RefreshableDelegate<MessageSource> implements HierarchicalMessageSource {
+
+    private volatile MessageSource parentMessageSource;
+
+    public RefreshableMessageSource(Supplier<? extends MessageSource> factory) {
+        super(factory);
+    }
+
+    @Override
+    public String getMessage(@NotNull String code, Object[] args, String defaultMessage, @NotNull Locale locale) {
+        return getDelegate().getMessage(code, args, defaultMessage, locale);
+    }
+
+    @NotNull
+    @Override
+    public String getMessage(@NotNull String code, Object[] args, @NotNull Locale locale) throws NoSuchMessageException {
+        return getDelegate().getMessage(code, args, locale);
+    }
+
+    @NotNull
+    @Override
+    public String getMessage(@NotNull MessageSourceResolvable resolvable, @NotNull Locale locale)
+        throws NoSuchMessageException {
+        return getDelegate().getMessage(resolvable, locale);
+    }
+
+    @Override
+    public void setParentMessageSource(MessageSource parent) {
+        this.parentMessageSource = parent;
+        if (getDelegate() instanceof HierarchicalMessageSource hierarchicalMessageSource) {
+            hierarchicalMessageSource.setParentMessageSource(parent);
+        }
+    }
+
+    @Override
+    public MessageSource getParentMessageSource() {
+        return parentMessageSource;
+    }
+
+    @Override
+    protected void onRefresh(MessageSource previousDelegate, MessageSource newDelegate) {
+        if (parentMessageSource != null && newDelegate instanceof HierarchicalMessageSource hierarchicalMessageSource) {
+            hierarchicalMessageSource.setParentMessageSource(parentMessageSource);
+        }
+    }
+}
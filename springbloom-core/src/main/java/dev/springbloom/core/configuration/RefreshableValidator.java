@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.configuration;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A Spring and Jakarta {@link jakarta.validation.Validator} whose {@link LocalValidatorFactoryBean} is created
+ * again on each refresh, see {@link RefreshableDelegate}, so its message interpolator does not keep the messages
+ * resolved before.
+ * <p>
+ * It is refreshed after the {@link RefreshableMessageSource}, so the new interpolator only sees the new messages.
+ */
+@SuppressWarnings("unused")
+public class RefreshableValidator extends RefreshableDelegate<LocalValidatorFactoryBean>
+    implements SmartValidator, jakarta.validation.Validator {
+
+    /**
+     * @param factory Creates a {@link LocalValidatorFactoryBean} which is already initialized
+     */
+    public RefreshableValidator(Supplier<? extends LocalValidatorFactoryBean> factory) {
+        super(factory);
+    }
+
+    @Override
+    public int getOrder() {
+        return super.getOrder() + 1;
+    }
+
+    @Override
+    public boolean supports(@NotNull Class<?> clazz) {
+        return getDelegate().supports(clazz);
+    }
+
+    @Override
+    public void validate(@NotNull Object target, @NotNull Errors errors) {
+        getDelegate().validate(target, errors);
+    }
+
+    @Override
+    public void validate(@NotNull Object target, @NotNull Errors errors, @NotNull Object... validationHints) {
+        getDelegate().validate(target, errors, validationHints);
+    }
+
+    @Override
+    public void validateValue(
+        @NotNull Class<?> targetType,
+        @NotNull String fieldName,
+        Object value,
+        @NotNull Errors errors,
+        @NotNull Object... validationHints
+    ) {
+        getDelegate().validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        return getDelegate().validate(object, groups);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+        return getDelegate().validateProperty(object, propertyName, groups);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateValue(
+        Class<T> beanType, String propertyName, Object value, Class<?>... groups
+    ) {
+        return getDelegate().validateValue(beanType, propertyName, value, groups);
+    }
+
+    @Override
+    public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+        return getDelegate().getConstraintsForClass(clazz);
+    }
+
+    @Override
+    public ExecutableValidator forExecutables() {
+        return getDelegate().forExecutables();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return type.isInstance(this) ? type.cast(this) : getDelegate().unwrap(type);
+    }
+}
@@ -18,7 +18,17 @@
  */
 package dev.springbloom.core.configuration;
 
+import dev.springbloom.core.template.BatchTemplateRenderer;
+import dev.springbloom.core.template.ChunkedWriter;
+import dev.springbloom.core.template.ModificationAwareTemplateResolver;
+import dev.springbloom.core.template.ParsedTemplateCache;
+import dev.springbloom.core.template.ParsedTemplateCacheManager;
+import dev.springbloom.core.template.ParsedTemplateCacheMetrics;
+import dev.springbloom.core.template.StreamingTemplateRenderer;
+import io.micrometer.core.instrument.Tags;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafAutoConfiguration;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
@@ -29,7 +39,6 @@ import org.springframework.core.Ordered;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 import org.thymeleaf.templatemode.TemplateMode;
 import org.thymeleaf.templateresolver.AbstractConfigurableTemplateResolver;
-import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 import org.thymeleaf.templateresolver.ITemplateResolver;
 import org.thymeleaf.templateresolver.StringTemplateResolver;
 
@@ -40,11 +49,30 @@ import java.util.Collections;
 @Import(ThymeleafAutoConfiguration.class)
 public class ThymeleafConfiguration {
 
+    /// Disabled along with the cache of Spring Boot, e.g. by the DevTools.
+    @Value("${spring.thymeleaf.cache:true}")
+    private boolean cacheable;
+
+    @Value("${templates.cache.check-interval:" + ModificationAwareTemplateResolver.DEFAULT_CHECK_INTERVAL_MILLIS + "}")
+    private long checkIntervalMillis;
+
+    @Bean
+    public ParsedTemplateCache parsedTemplateCache(
+        @Value("${templates.cache.max-weight:" + ParsedTemplateCache.DEFAULT_MAX_WEIGHT + "}") long maxWeight
+    ) {
+        return new ParsedTemplateCache(maxWeight);
+    }
+
     @Bean
     @Primary
-    public SpringTemplateEngine customTemplateEngine(ITemplateResolver defaultResolver, MessageSource messageSource) {
+    public SpringTemplateEngine customTemplateEngine(
+        ITemplateResolver defaultResolver,
+        MessageSource messageSource,
+        ParsedTemplateCache parsedTemplateCache
+    ) {
         // Default Resolver.
         final SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setCacheManager(new ParsedTemplateCacheManager(parsedTemplateCache));
         ((AbstractConfigurableTemplateResolver) defaultResolver).setOrder(Ordered.LOWEST_PRECEDENCE - 1);
         templateEngine.addTemplateResolver(defaultResolver);
 
@@ -62,27 +90,47 @@ public class ThymeleafConfiguration {
         return templateEngine;
     }
 
+    @Bean
+    public BatchTemplateRenderer batchTemplateRenderer(
+        SpringTemplateEngine customTemplateEngine,
+        @Value("${templates.batch.parallelism:0}") int parallelism
+    ) {
+        return parallelism > 0
+            ? new BatchTemplateRenderer(customTemplateEngine, parallelism)
+            : new BatchTemplateRenderer(customTemplateEngine);
+    }
+
+    @Bean
+    public StreamingTemplateRenderer streamingTemplateRenderer(
+        SpringTemplateEngine customTemplateEngine,
+        @Value("${templates.streaming.flush-threshold:" + ChunkedWriter.DEFAULT_FLUSH_THRESHOLD + "}") int flushThreshold
+    ) {
+        return new StreamingTemplateRenderer(customTemplateEngine, flushThreshold);
+    }
+
     private ITemplateResolver textTemplateResolver() {
-        final ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        final ModificationAwareTemplateResolver templateResolver = new ModificationAwareTemplateResolver();
         templateResolver.setOrder(1);
         templateResolver.setResolvablePatterns(Collections.singleton("text/*"));
         templateResolver.setPrefix("/templates/");
         templateResolver.setSuffix(".txt");
         templateResolver.setTemplateMode(TemplateMode.TEXT);
         templateResolver.setCharacterEncoding("UTF-8");
-        templateResolver.setCacheable(false);
+        templateResolver.setCacheable(cacheable); // Until the template file changes
+        templateResolver.setCheckIntervalMillis(checkIntervalMillis);
         return templateResolver;
     }
 
     private ITemplateResolver htmlTemplateResolver() {
-        final ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        final ModificationAwareTemplateResolver templateResolver = new ModificationAwareTemplateResolver();
         templateResolver.setOrder(2);
         templateResolver.setResolvablePatterns(Collections.singleton("html/*"));
         templateResolver.setPrefix("/templates/");
         templateResolver.setSuffix(".html");
         templateResolver.setTemplateMode(TemplateMode.HTML);
         templateResolver.setCharacterEncoding("UTF-8");
-        templateResolver.setCacheable(false);
+        templateResolver.setCacheable(cacheable); // Until the template file changes
+        templateResolver.setCheckIntervalMillis(checkIntervalMillis);
         return templateResolver;
     }
 
@@ -90,7 +138,17 @@ public class ThymeleafConfiguration {
         final StringTemplateResolver templateResolver = new StringTemplateResolver();
         templateResolver.setOrder(Ordered.LOWEST_PRECEDENCE);
         // No resolvable pattern, it will simply process as a String template everything not previously matched!
-        templateResolver.setCacheable(false);
+        templateResolver.setCacheable(cacheable); // Keyed by the content, so it never changes
         return templateResolver;
     }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    static class ParsedTemplateCacheMetricsConfiguration {
+
+        @Bean
+        public ParsedTemplateCacheMetrics parsedTemplateCacheMetrics(ParsedTemplateCache parsedTemplateCache) {
+            return new ParsedTemplateCacheMetrics(parsedTemplateCache, "thymeleaf-templates", Tags.empty());
+        }
+    }
 }
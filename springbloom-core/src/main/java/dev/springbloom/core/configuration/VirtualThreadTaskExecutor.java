@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * An {@link AsyncTaskExecutor} that runs each task in a new virtual thread, so tasks blocked on I/O do not hold
+ * a platform thread and are never queued behind a saturated pool.
+ * <p>
+ * The concurrency limit, if any, is enforced by a {@link Semaphore} acquired within the virtual thread, so the
+ * submitting thread never blocks and the exceeding tasks just wait, parked, for a permit.
+ */
+@SuppressWarnings("unused")
+public class VirtualThreadTaskExecutor implements AsyncTaskExecutor {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final int concurrencyLimit;
+
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+
+    /// Applied in the submitting thread, so it can capture its context.
+    @Setter
+    private TaskDecorator taskDecorator;
+
+    /**
+     * @param name             The prefix of the thread names
+     * @param concurrencyLimit The maximum number of tasks running at the same time, or 0 for no limit
+     */
+    public VirtualThreadTaskExecutor(String name, int concurrencyLimit) {
+        this.name = name;
+        this.concurrencyLimit = concurrencyLimit;
+        this.threadFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+        this.permits = concurrencyLimit > 0 ? new Semaphore(concurrencyLimit) : null;
+    }
+
+    @Override
+    public void execute(@NotNull Runnable task) {
+        Runnable decoratedTask = taskDecorator != null ? taskDecorator.decorate(task) : task;
+        threadFactory.newThread(permits != null ? () -> runWithPermit(decoratedTask) : decoratedTask).start();
+    }
+
+    @NotNull
+    @Override
+    public Future<?> submit(@NotNull Runnable task) {
+        FutureTask<Object> future = new FutureTask<>(task, null);
+        execute(future);
+        return future;
+    }
+
+    @NotNull
+    @Override
+    public <T> Future<T> submit(@NotNull Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        execute(future);
+        return future;
+    }
+
+    /**
+     * The number of tasks that may still start right away, or -1 when there is no limit.
+     */
+    public int getAvailablePermits() {
+        return permits != null ? permits.availablePermits() : -1;
+    }
+
+    private void runWithPermit(Runnable task) {
+        // Uninterruptibly, otherwise the future of an interrupted task would never be completed.
+        permits.acquireUninterruptibly();
+        try {
+            task.run();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.fasterxml.jackson.module.kotlin.KotlinModule;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of immutable, thread-safe {@link ObjectReader}s and {@link ObjectWriter}s, all derived from the same
+ * configured {@link ObjectMapper}, so the (de)serializers of each type are introspected only once in the whole
+ * application, instead of once in each bean owning its own mapper.
+ * <p>
+ * Readers and writers are created on their first use, or upfront with {@link #warmUp(Class[])}, and fetch the
+ * (de)serializer of their type eagerly. When the {@code jackson-module-blackbird} is in the Classpath, the
+ * properties are accessed through generated lambdas instead of reflection.
+ * <p>
+ * The {@link #getDefault() default registry} is the one exposed as a bean by the {@code DefaultAutoConfiguration},
+ * and can be used by classes not managed by Spring.
+ */
+@SuppressWarnings("unused")
+public class ObjectMapperRegistry {
+
+    private static final boolean BLACKBIRD_PRESENT =
+        ClassUtils.isPresent("com.fasterxml.jackson.module.blackbird.BlackbirdModule", null);
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectWriter writer;
+
+    private final ObjectWriter prettyWriter;
+
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    /**
+     * @param objectMapper Already configured mapper, owned by the registry, which must not be changed afterward.
+     */
+    public ObjectMapperRegistry(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer();
+        this.prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    }
+
+    public static ObjectMapperRegistry getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Creates the mapper used by the default registry, with the Kotlin, Java Time and, if available,
+     * Blackbird modules.
+     */
+    public static ObjectMapper createObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new KotlinModule.Builder().build())
+            .registerModule(new JavaTimeModule());
+        if (BLACKBIRD_PRESENT) {
+            BlackbirdSupport.register(objectMapper);
+        }
+        return objectMapper;
+    }
+
+    /**
+     * Returns a copy of the mapper which can be freely reconfigured, but does not share any cache. The mapper of
+     * the registry itself is never exposed, so its readers and writers cannot be changed by anyone.
+     */
+    public ObjectMapper copyObjectMapper() {
+        return objectMapper.copy();
+    }
+
+    public ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, key -> objectMapper.readerFor(type));
+    }
+
+    public ObjectReader reader(TypeReference<?> type) {
+        return readers.computeIfAbsent(type.getType(), key -> objectMapper.readerFor(type));
+    }
+
+    public ObjectReader reader(JavaType type) {
+        return readers.computeIfAbsent(type, key -> objectMapper.readerFor(type));
+    }
+
+    public ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, key -> objectMapper.writerFor(type));
+    }
+
+    public ObjectWriter writer(TypeReference<?> type) {
+        return writers.computeIfAbsent(type.getType(), key -> objectMapper.writerFor(type));
+    }
+
+    public ObjectWriter writer(JavaType type) {
+        return writers.computeIfAbsent(type, key -> objectMapper.writerFor(type));
+    }
+
+    /**
+     * Returns a writer which uses the runtime type of each value, e.g. for values whose subclasses must be
+     * serialized with all their properties.
+     */
+    public ObjectWriter writer() {
+        return writer;
+    }
+
+    /**
+     * Returns a writer which uses the runtime type of each value, with the default pretty printer.
+     */
+    public ObjectWriter prettyWriter() {
+        return prettyWriter;
+    }
+
+    /**
+     * Creates the readers and writers of the types, so their (de)serializers are ready before their first use.
+     */
+    public ObjectMapperRegistry warmUp(Class<?>... types) {
+        for (Class<?> type : types) {
+            reader(type);
+            writer(type);
+        }
+        return this;
+    }
+
+    /// Isolates the optional module, which is only loaded when present.
+    private static final class BlackbirdSupport {
+
+        static void register(ObjectMapper objectMapper) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+    }
+
+    private static final class DefaultHolder {
+
+        private static final ObjectMapperRegistry INSTANCE = new ObjectMapperRegistry(createObjectMapper());
+    }
+}
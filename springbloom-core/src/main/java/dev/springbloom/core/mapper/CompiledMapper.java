@@ -0,0 +1,521 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.mapper;
+
+import dev.springbloom.core.exception.IllegalArgumentApplicationException;
+import dev.springbloom.core.exception.IllegalStateApplicationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Thread-safe alternative to the {@link org.modelmapper.ModelMapper} configured by the
+ * {@code DefaultAutoConfiguration}, i.e. with field matching of private fields and the {@code STRICT} matching
+ * strategy, meant to be used as a singleton.
+ * <p>
+ * The mapping of each (source, destination) pair is compiled only once, on its first use or upfront with
+ * {@link #register(Class, Class[])}, into {@link MethodHandle}s which read the source properties and write the
+ * destination ones, so mapping an object never uses reflection nor matches any property again.
+ * <p>
+ * Like the {@code STRICT} strategy, a destination property is only mapped from the source property whose name
+ * has exactly the same camel case tokens, ignoring their case, e.g. {@code urlValue} from {@code URLValue},
+ * or from a nested source property whose path has them, e.g. {@code addressStreet} from {@code address.street}.
+ * Properties are accessed through their getters and setters, falling back to their fields. Assignable values are
+ * copied by reference, except collections and maps, which are copied, while numbers, strings and enums are
+ * converted, and any other object is mapped recursively to the destination type.
+ */
+@SuppressWarnings("unused")
+public class CompiledMapper {
+
+    /// How deep a destination property is searched within the source properties.
+    private static final int MAX_SOURCE_DEPTH = 3;
+
+    /// Same as the {@code NameTokenizers.CAMEL_CASE} of the ModelMapper, so both match the same properties.
+    private static final Pattern CAMEL_CASE =
+        Pattern.compile("(?<=[A-Z])(?=[A-Z][a-z])|(?<=[^A-Z])(?=[A-Z])|(?<=[A-Za-z])(?=[^A-Za-z])");
+
+    private final ClassValue<Map<Class<?>, TypeMapping>> typeMappings = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, TypeMapping> computeValue(Class<?> sourceType) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Maps the source into a new instance of the destination type, which must have a no-args constructor.
+     */
+    public <D> D map(Object source, Class<D> destinationType) {
+        if (source == null) {
+            throw new IllegalArgumentApplicationException("The source must not be null!");
+        }
+        return destinationType.cast(typeMapping(source.getClass(), destinationType).map(source));
+    }
+
+    /**
+     * Maps the source into an existing destination.
+     */
+    public void map(Object source, Object destination) {
+        if (source == null || destination == null) {
+            throw new IllegalArgumentApplicationException("The source and the destination must not be null!");
+        }
+        typeMapping(source.getClass(), destination.getClass()).mapInto(source, destination);
+    }
+
+    /**
+     * Maps each source, keeping the nulls, into a new list.
+     */
+    public <D> List<D> mapAll(Collection<?> sources, Class<D> destinationType) {
+        List<D> destinations = new ArrayList<>(sources.size());
+        TypeMapping typeMapping = null;
+        for (Object source : sources) {
+            if (source == null) {
+                destinations.add(null);
+                continue;
+            }
+            if (typeMapping == null || typeMapping.sourceType != source.getClass()) {
+                typeMapping = typeMapping(source.getClass(), destinationType);
+            }
+            destinations.add(destinationType.cast(typeMapping.map(source)));
+        }
+        return destinations;
+    }
+
+    /**
+     * Compiles the mappings of the source type to each destination type, e.g. at startup.
+     */
+    public CompiledMapper register(Class<?> sourceType, Class<?>... destinationTypes) {
+        for (Class<?> destinationType : destinationTypes) {
+            typeMapping(sourceType, destinationType);
+        }
+        return this;
+    }
+
+    private TypeMapping typeMapping(Class<?> sourceType, Class<?> destinationType) {
+        Map<Class<?>, TypeMapping> mappings = typeMappings.get(sourceType);
+        TypeMapping typeMapping = mappings.get(destinationType);
+        if (typeMapping == null) {
+            // The nested mappings are only resolved when used, so compiling never recurses into the map.
+            typeMapping = mappings.computeIfAbsent(destinationType, key -> compile(sourceType, destinationType));
+        }
+        return typeMapping;
+    }
+
+    private TypeMapping compile(Class<?> sourceType, Class<?> destinationType) {
+        Map<String, Property> sourceProperties = readableProperties(sourceType);
+        List<PropertyMapping> propertyMappings = new ArrayList<>();
+        for (Property destinationProperty : writableProperties(destinationType).values()) {
+            List<Property> path = findSourcePath(sourceProperties, destinationProperty.tokens, 0);
+            if (path == null) {
+                continue;
+            }
+            Property sourceProperty = path.get(path.size() - 1);
+            Converter converter = converter(sourceProperty.type, destinationProperty.type,
+                destinationProperty.genericType);
+            if (converter != null) {
+                propertyMappings.add(new PropertyMapping(
+                    path.stream().map(Property::accessor).toArray(MethodHandle[]::new),
+                    destinationProperty.accessor, converter, destinationProperty.type.isPrimitive()));
+            }
+        }
+        return new TypeMapping(sourceType, destinationType, constructor(destinationType),
+            propertyMappings.toArray(PropertyMapping[]::new));
+    }
+
+    private List<Property> findSourcePath(Map<String, Property> properties, List<String> tokens, int depth) {
+        for (Property property : properties.values()) {
+            if (property.tokens.equals(tokens)) {
+                return List.of(property);
+            }
+        }
+        if (depth + 1 < MAX_SOURCE_DEPTH) {
+            for (Property property : properties.values()) {
+                int size = property.tokens.size();
+                if (size < tokens.size() && isBean(property.type) && property.tokens.equals(tokens.subList(0, size))) {
+                    List<Property> path =
+                        findSourcePath(readableProperties(property.type), tokens.subList(size, tokens.size()), depth + 1);
+                    if (path != null) {
+                        List<Property> fullPath = new ArrayList<>(path.size() + 1);
+                        fullPath.add(property);
+                        fullPath.addAll(path);
+                        return fullPath;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns how a value of the source type is converted into the destination type, or {@code null}
+     * when it can not be, so the property is not mapped.
+     */
+    private Converter converter(Class<?> sourceType, Class<?> destinationType, Type destinationGenericType) {
+        Class<?> source = box(sourceType);
+        Class<?> destination = box(destinationType);
+        if (Collection.class.isAssignableFrom(destination) && Iterable.class.isAssignableFrom(source)) {
+            Supplier<Collection<Object>> factory = collectionFactory(destination);
+            if (factory == null) {
+                return null;
+            }
+            Class<?> elementType = typeArgument(destinationGenericType, 0);
+            return value -> {
+                Collection<Object> collection = factory.get();
+                for (Object element : (Iterable<?>) value) {
+                    collection.add(convert(element, elementType));
+                }
+                return collection;
+            };
+        }
+        if (Map.class.isAssignableFrom(destination) && Map.class.isAssignableFrom(source)) {
+            if (destination.isAssignableFrom(LinkedHashMap.class)) {
+                return value -> new LinkedHashMap<>((Map<?, ?>) value);
+            }
+            return destination.isAssignableFrom(TreeMap.class) ? value -> new TreeMap<>((Map<?, ?>) value) : null;
+        }
+        if (destination.isAssignableFrom(source)) {
+            return value -> value;
+        }
+        if (destination == String.class) {
+            return String::valueOf;
+        }
+        if (Number.class.isAssignableFrom(destination) && Number.class.isAssignableFrom(source)) {
+            return value -> convertNumber((Number) value, destination);
+        }
+        if (destination.isEnum() && (source == String.class || source.isEnum())) {
+            return value -> convertEnum(value, destination);
+        }
+        if (isBean(destination) && isBean(source)) {
+            return value -> map(value, destination);
+        }
+        return null;
+    }
+
+    /// Used for the elements of collections, whose types are only known at runtime.
+    private Object convert(Object value, Class<?> destinationType) {
+        if (value == null || destinationType == null || destinationType.isInstance(value)) {
+            return value;
+        }
+        Converter converter = converter(value.getClass(), destinationType, destinationType);
+        if (converter == null) {
+            throw new IllegalArgumentApplicationException(
+                "Unable to convert " + value.getClass().getName() + " into " + destinationType.getName());
+        }
+        return converter.convert(value);
+    }
+
+    private static Object convertNumber(Number value, Class<?> destinationType) {
+        if (destinationType == Integer.class) {
+            return value.intValue();
+        } else if (destinationType == Long.class) {
+            return value.longValue();
+        } else if (destinationType == Double.class) {
+            return value.doubleValue();
+        } else if (destinationType == Float.class) {
+            return value.floatValue();
+        } else if (destinationType == Short.class) {
+            return value.shortValue();
+        } else if (destinationType == Byte.class) {
+            return value.byteValue();
+        } else if (destinationType == BigDecimal.class) {
+            return value instanceof BigInteger integer ? new BigDecimal(integer) : new BigDecimal(value.toString());
+        } else if (destinationType == BigInteger.class) {
+            return value instanceof BigDecimal decimal ? decimal.toBigInteger() : BigInteger.valueOf(value.longValue());
+        }
+        throw new IllegalArgumentApplicationException("Unsupported number type: " + destinationType.getName());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convertEnum(Object value, Class<?> destinationType) {
+        String name = value instanceof Enum<?> constant ? constant.name() : (String) value;
+        return Enum.valueOf((Class<? extends Enum>) destinationType, name);
+    }
+
+    private static Supplier<Collection<Object>> collectionFactory(Class<?> collectionType) {
+        if (collectionType.isAssignableFrom(ArrayList.class)) {
+            return ArrayList::new;
+        } else if (collectionType.isAssignableFrom(LinkedHashSet.class)) {
+            return LinkedHashSet::new;
+        } else if (collectionType.isAssignableFrom(TreeSet.class)) {
+            return TreeSet::new;
+        } else if (collectionType.isAssignableFrom(ArrayDeque.class)) {
+            return ArrayDeque::new;
+        }
+        return null;
+    }
+
+    private static Class<?> typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType parameterizedType
+            && parameterizedType.getActualTypeArguments()[index] instanceof Class<?> argument) {
+            return argument;
+        }
+        return null;
+    }
+
+    /**
+     * Whether the type is mapped property by property, instead of being treated as a single value.
+     */
+    private static boolean isBean(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isInterface()
+            || Number.class.isAssignableFrom(type) || CharSequence.class.isAssignableFrom(type)) {
+            return false;
+        }
+        String name = type.getName();
+        return !name.startsWith("java.") && !name.startsWith("javax.") && !name.startsWith("jakarta.");
+    }
+
+    private static Class<?> box(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private static MethodHandle constructor(Class<?> type) {
+        if (!isBean(type) || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            return lookup(type).findConstructor(type, MethodType.methodType(void.class))
+                .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Getters (and {@code is} methods of booleans) first, then the fields of the type and its superclasses.
+     */
+    private static Map<String, Property> readableProperties(Class<?> type) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (Method method : type.getMethods()) {
+            String name = getterName(method);
+            if (name != null && !properties.containsKey(name)) {
+                try {
+                    MethodHandle getter = MethodHandles.publicLookup().unreflect(method)
+                        .asType(MethodType.methodType(Object.class, Object.class));
+                    properties.put(name, new Property(name, method.getReturnType(), method.getGenericReturnType(), getter));
+                } catch (IllegalAccessException ex) {
+                    // Not accessible, e.g. declared by a non-public class.
+                }
+            }
+        }
+        for (Field field : fields(type)) {
+            if (!properties.containsKey(field.getName())) {
+                MethodHandle getter = fieldAccessor(field, false);
+                if (getter != null) {
+                    properties.put(field.getName(), new Property(field.getName(), field.getType(), field.getGenericType(), getter));
+                }
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Setters first, then the non-final fields of the type and its superclasses.
+     */
+    private static Map<String, Property> writableProperties(Class<?> type) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (Method method : type.getMethods()) {
+            String name = setterName(method);
+            if (name != null && !properties.containsKey(name)) {
+                try {
+                    MethodHandle setter = MethodHandles.publicLookup().unreflect(method)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                    properties.put(name, new Property(name, method.getParameterTypes()[0],
+                        method.getGenericParameterTypes()[0], setter));
+                } catch (IllegalAccessException ex) {
+                    // Not accessible, e.g. declared by a non-public class.
+                }
+            }
+        }
+        for (Field field : fields(type)) {
+            if (!properties.containsKey(field.getName()) && !Modifier.isFinal(field.getModifiers())) {
+                MethodHandle setter = fieldAccessor(field, true);
+                if (setter != null) {
+                    properties.put(field.getName(), new Property(field.getName(), field.getType(), field.getGenericType(), setter));
+                }
+            }
+        }
+        return properties;
+    }
+
+    private static String getterName(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0
+            || method.getReturnType() == void.class || method.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return decapitalize(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2 && box(method.getReturnType()) == Boolean.class) {
+            return decapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+    private static String setterName(Method method) {
+        String name = method.getName();
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1
+            || !name.startsWith("set") || name.length() <= 3) {
+            return null;
+        }
+        return decapitalize(name.substring(3));
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static List<Field> fields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Returns {@code null} when the field is not accessible, e.g. when it is declared in a module which is
+     * not open to this one, like the fields of {@link Throwable}.
+     */
+    private static MethodHandle fieldAccessor(Field field, boolean setter) {
+        try {
+            MethodHandles.Lookup lookup = lookup(field.getDeclaringClass());
+            return setter
+                ? lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class))
+                : lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> type) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+    }
+
+    /**
+     * Splits the property name into its lower case tokens, e.g. {@code URLValue} into {@code url} and
+     * {@code value}, or {@code address2} into {@code address} and {@code 2}. Underscores are kept within the
+     * tokens, so {@code first_name} does not match {@code firstName}.
+     */
+    static List<String> tokens(String name) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : CAMEL_CASE.split(name)) {
+            tokens.add(token.toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+
+    @FunctionalInterface
+    private interface Converter {
+
+        Object convert(Object value);
+    }
+
+    private record Property(String name, List<String> tokens, Class<?> type, Type genericType, MethodHandle accessor) {
+
+        Property(String name, Class<?> type, Type genericType, MethodHandle accessor) {
+            this(name, CompiledMapper.tokens(name), type, genericType, accessor);
+        }
+    }
+
+    private record PropertyMapping(MethodHandle[] getters, MethodHandle setter, Converter converter, boolean primitive) {
+
+        void map(Object source, Object destination) throws Throwable {
+            Object value = source;
+            for (MethodHandle getter : getters) {
+                value = (Object) getter.invokeExact(value);
+                if (value == null) {
+                    break;
+                }
+            }
+            if (value == null) {
+                // Nulls are kept, except when the property can not hold them, or when a nested source is null.
+                if (primitive || getters.length > 1) {
+                    return;
+                }
+            } else {
+                value = converter.convert(value);
+            }
+            setter.invokeExact(destination, value);
+        }
+    }
+
+    private static final class TypeMapping {
+
+        private final Class<?> sourceType;
+        private final Class<?> destinationType;
+        private final MethodHandle constructor;
+        private final PropertyMapping[] propertyMappings;
+
+        TypeMapping(
+            Class<?> sourceType,
+            Class<?> destinationType,
+            MethodHandle constructor,
+            PropertyMapping[] propertyMappings
+        ) {
+            this.sourceType = sourceType;
+            this.destinationType = destinationType;
+            this.constructor = constructor;
+            this.propertyMappings = propertyMappings;
+        }
+
+        Object map(Object source) {
+            if (constructor == null) {
+                throw new IllegalStateApplicationException(
+                    "No accessible no-args constructor for: " + destinationType.getName());
+            }
+            Object destination;
+            try {
+                destination = (Object) constructor.invokeExact();
+            } catch (Throwable ex) {
+                throw new IllegalStateApplicationException("Unable to instantiate: " + destinationType.getName(), ex);
+            }
+            mapInto(source, destination);
+            return destination;
+        }
+
+        void mapInto(Object source, Object destination) {
+            for (PropertyMapping propertyMapping : propertyMappings) {
+                try {
+                    propertyMapping.map(source, destination);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new IllegalStateApplicationException(
+                        "Unable to map " + sourceType.getName() + " into " + destinationType.getName(), ex);
+                }
+            }
+        }
+    }
+}
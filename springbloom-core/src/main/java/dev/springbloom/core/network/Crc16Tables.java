@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+/**
+ * Lookup tables of the {@link Crc16} catalog, encoded as one char per entry.
+ * <p>
+ * <b>Generated by {@code Crc16TablesGenerator}, do not edit.</b>
+ */
+final class Crc16Tables {
+
+    private static final String POLY_0589 =
+        "\u0000\u0589\u0B12\u0E9B\u1624\u13AD\u1D36\u18BF\u2C48\u29C1\u275A\u22D3\u3A6C\u3FE5\u317E\u34F7"
+        + "\u5890\u5D19\u5382\u560B\u4EB4\u4B3D\u45A6\u402F\u74D8\u7151\u7FCA\u7A43\u62FC\u6775\u69EE\u6C67"
+        + "\uB120\uB4A9\uBA32\uBFBB\uA704\uA28D\uAC16\uA99F\u9D68\u98E1\u967A\u93F3\u8B4C\u8EC5\u805E\u85D7"
+        + "\uE9B0\uEC39\uE2A2\uE72B\uFF94\uFA1D\uF486\uF10F\uC5F8\uC071\uCEEA\uCB63\uD3DC\uD655\uD8CE\uDD47"
+        + "\u67C9\u6240\u6CDB\u6952\u71ED\u7464\u7AFF\u7F76\u4B81\u4E08\u4093\u451A\u5DA5\u582C\u56B7\u533E"
+        + "\u3F59\u3AD0\u344B\u31C2\u297D\u2CF4\u226F\u27E6\u1311\u1698\u1803\u1D8A\u0535\u00BC\u0E27\u0BAE"
+        + "\uD6E9\uD360\uDDFB\uD872\uC0CD\uC544\uCBDF\uCE56\uFAA1\uFF28\uF1B3\uF43A\uEC85\uE90C\uE797\uE21E"
+        + "\u8E79\u8BF0\u856B\u80E2\u985D\u9DD4\u934F\u96C6\uA231\uA7B8\uA923\uACAA\uB415\uB19C\uBF07\uBA8E"
+        + "\uCF92\uCA1B\uC480\uC109\uD9B6\uDC3F\uD2A4\uD72D\uE3DA\uE653\uE8C8\uED41\uF5FE\uF077\uFEEC\uFB65"
+        + "\u9702\u928B\u9C10\u9999\u8126\u84AF\u8A34\u8FBD\uBB4A\uBEC3\uB058\uB5D1\uAD6E\uA8E7\uA67C\uA3F5"
+        + "\u7EB2\u7B3B\u75A0\u7029\u6896\u6D1F\u6384\u660D\u52FA\u5773\u59E8\u5C61\u44DE\u4157\u4FCC\u4A45"
+        + "\u2622\u23AB\u2D30\u28B9\u3006\u358F\u3B14\u3E9D\u0A6A\u0FE3\u0178\u04F1\u1C4E\u19C7\u175C\u12D5"
+        + "\uA85B\uADD2\uA349\uA6C0\uBE7F\uBBF6\uB56D\uB0E4\u8413\u819A\u8F01\u8A88\u9237\u97BE\u9925\u9CAC"
+        + "\uF0CB\uF542\uFBD9\uFE50\uE6EF\uE366\uEDFD\uE874\uDC83\uD90A\uD791\uD218\uCAA7\uCF2E\uC1B5\uC43C"
+        + "\u197B\u1CF2\u1269\u17E0\u0F5F\u0AD6\u044D\u01C4\u3533\u30BA\u3E21\u3BA8\u2317\u269E\u2805\u2D8C"
+        + "\u41EB\u4462\u4AF9\u4F70\u57CF\u5246\u5CDD\u5954\u6DA3\u682A\u66B1\u6338\u7B87\u7E0E\u7095\u751C";
+
+    private static final String POLY_1021 =
+        "\u0000\u1021\u2042\u3063\u4084\u50A5\u60C6\u70E7\u8108\u9129\uA14A\uB16B\uC18C\uD1AD\uE1CE\uF1EF"
+        + "\u1231\u0210\u3273\u2252\u52B5\u4294\u72F7\u62D6\u9339\u8318\uB37B\uA35A\uD3BD\uC39C\uF3FF\uE3DE"
+        + "\u2462\u3443\u0420\u1401\u64E6\u74C7\u44A4\u5485\uA56A\uB54B\u8528\u9509\uE5EE\uF5CF\uC5AC\uD58D"
+        + "\u3653\u2672\u1611\u0630\u76D7\u66F6\u5695\u46B4\uB75B\uA77A\u9719\u8738\uF7DF\uE7FE\uD79D\uC7BC"
+        + "\u48C4\u58E5\u6886\u78A7\u0840\u1861\u2802\u3823\uC9CC\uD9ED\uE98E\uF9AF\u8948\u9969\uA90A\uB92B"
+        + "\u5AF5\u4AD4\u7AB7\u6A96\u1A71\u0A50\u3A33\u2A12\uDBFD\uCBDC\uFBBF\uEB9E\u9B79\u8B58\uBB3B\uAB1A"
+        + "\u6CA6\u7C87\u4CE4\u5CC5\u2C22\u3C03\u0C60\u1C41\uEDAE\uFD8F\uCDEC\uDDCD\uAD2A\uBD0B\u8D68\u9D49"
+        + "\u7E97\u6EB6\u5ED5\u4EF4\u3E13\u2E32\u1E51\u0E70\uFF9F\uEFBE\uDFDD\uCFFC\uBF1B\uAF3A\u9F59\u8F78"
+        + "\u9188\u81A9\uB1CA\uA1EB\uD10C\uC12D\uF14E\uE16F\u1080\u00A1\u30C2\u20E3\u5004\u4025\u7046\u6067"
+        + "\u83B9\u9398\uA3FB\uB3DA\uC33D\uD31C\uE37F\uF35E\u02B1\u1290\u22F3\u32D2\u4235\u5214\u6277\u7256"
+        + "\uB5EA\uA5CB\u95A8\u8589\uF56E\uE54F\uD52C\uC50D\u34E2\u24C3\u14A0\u0481\u7466\u6447\u5424\u4405"
+        + "\uA7DB\uB7FA\u8799\u97B8\uE75F\uF77E\uC71D\uD73C\u26D3\u36F2\u0691\u16B0\u6657\u7676\u4615\u5634"
+        + "\uD94C\uC96D\uF90E\uE92F\u99C8\u89E9\uB98A\uA9AB\u5844\u4865\u7806\u6827\u18C0\u08E1\u3882\u28A3"
+        + "\uCB7D\uDB5C\uEB3F\uFB1E\u8BF9\u9BD8\uABBB\uBB9A\u4A75\u5A54\u6A37\u7A16\u0AF1\u1AD0\u2AB3\u3A92"
+        + "\uFD2E\uED0F\uDD6C\uCD4D\uBDAA\uAD8B\u9DE8\u8DC9\u7C26\u6C07\u5C64\u4C45\u3CA2\u2C83\u1CE0\u0CC1"
+        + "\uEF1F\uFF3E\uCF5D\uDF7C\uAF9B\uBFBA\u8FD9\u9FF8\u6E17\u7E36\u4E55\u5E74\u2E93\u3EB2\u0ED1\u1EF0";
+
+    private static final String POLY_3D65 =
+        "\u0000\u3D65\u7ACA\u47AF\uF594\uC8F1\u8F5E\uB23B\uD64D\uEB28\uAC87\u91E2\u23D9\u1EBC\u5913\u6476"
+        + "\u91FF\uAC9A\uEB35\uD650\u646B\u590E\u1EA1\u23C4\u47B2\u7AD7\u3D78\u001D\uB226\u8F43\uC8EC\uF589"
+        + "\u1E9B\u23FE\u6451\u5934\uEB0F\uD66A\u91C5\uACA0\uC8D6\uF5B3\uB21C\u8F79\u3D42\u0027\u4788\u7AED"
+        + "\u8F64\uB201\uF5AE\uC8CB\u7AF0\u4795\u003A\u3D5F\u5929\u644C\u23E3\u1E86\uACBD\u91D8\uD677\uEB12"
+        + "\u3D36\u0053\u47FC\u7A99\uC8A2\uF5C7\uB268\u8F0D\uEB7B\uD61E\u91B1\uACD4\u1EEF\u238A\u6425\u5940"
+        + "\uACC9\u91AC\uD603\uEB66\u595D\u6438\u2397\u1EF2\u7A84\u47E1\u004E\u3D2B\u8F10\uB275\uF5DA\uC8BF"
+        + "\u23AD\u1EC8\u5967\u6402\uD639\uEB5C\uACF3\u9196\uF5E0\uC885\u8F2A\uB24F\u0074\u3D11\u7ABE\u47DB"
+        + "\uB252\u8F37\uC898\uF5FD\u47C6\u7AA3\u3D0C\u0069\u641F\u597A\u1ED5\u23B0\u918B\uACEE\uEB41\uD624"
+        + "\u7A6C\u4709\u00A6\u3DC3\u8FF8\uB29D\uF532\uC857\uAC21\u9144\uD6EB\uEB8E\u59B5\u64D0\u237F\u1E1A"
+        + "\uEB93\uD6F6\u9159\uAC3C\u1E07\u2362\u64CD\u59A8\u3DDE\u00BB\u4714\u7A71\uC84A\uF52F\uB280\u8FE5"
+        + "\u64F7\u5992\u1E3D\u2358\u9163\uAC06\uEBA9\uD6CC\uB2BA\u8FDF\uC870\uF515\u472E\u7A4B\u3DE4\u0081"
+        + "\uF508\uC86D\u8FC2\uB2A7\u009C\u3DF9\u7A56\u4733\u2345\u1E20\u598F\u64EA\uD6D1\uEBB4\uAC1B\u917E"
+        + "\u475A\u7A3F\u3D90\u00F5\uB2CE\u8FAB\uC804\uF561\u9117\uAC72\uEBDD\uD6B8\u6483\u59E6\u1E49\u232C"
+        + "\uD6A5\uEBC0\uAC6F\u910A\u2331\u1E54\u59FB\u649E\u00E8\u3D8D\u7A22\u4747\uF57C\uC819\u8FB6\uB2D3"
+        + "\u59C1\u64A4\u230B\u1E6E\uAC55\u9130\uD69F\uEBFA\u8F8C\uB2E9\uF546\uC823\u7A18\u477D\u00D2\u3DB7"
+        + "\uC83E\uF55B\uB2F4\u8F91\u3DAA\u00CF\u4760\u7A05\u1E73\u2316\u64B9\u59DC\uEBE7\uD682\u912D\uAC48";
+
+    private static final String POLY_8005 =
+        "\u0000\u8005\u800F\n\u801B\u001E\u0014\u8011\u8033\u0036\u003C\u8039\u0028\u802D\u8027\""
+        + "\u8063\u0066\u006C\u8069\u0078\u807D\u8077\u0072\u0050\u8055\u805F\u005A\u804B\u004E\u0044\u8041"
+        + "\u80C3\u00C6\u00CC\u80C9\u00D8\u80DD\u80D7\u00D2\u00F0\u80F5\u80FF\u00FA\u80EB\u00EE\u00E4\u80E1"
+        + "\u00A0\u80A5\u80AF\u00AA\u80BB\u00BE\u00B4\u80B1\u8093\u0096\u009C\u8099\u0088\u808D\u8087\u0082"
+        + "\u8183\u0186\u018C\u8189\u0198\u819D\u8197\u0192\u01B0\u81B5\u81BF\u01BA\u81AB\u01AE\u01A4\u81A1"
+        + "\u01E0\u81E5\u81EF\u01EA\u81FB\u01FE\u01F4\u81F1\u81D3\u01D6\u01DC\u81D9\u01C8\u81CD\u81C7\u01C2"
+        + "\u0140\u8145\u814F\u014A\u815B\u015E\u0154\u8151\u8173\u0176\u017C\u8179\u0168\u816D\u8167\u0162"
+        + "\u8123\u0126\u012C\u8129\u0138\u813D\u8137\u0132\u0110\u8115\u811F\u011A\u810B\u010E\u0104\u8101"
+        + "\u8303\u0306\u030C\u8309\u0318\u831D\u8317\u0312\u0330\u8335\u833F\u033A\u832B\u032E\u0324\u8321"
+        + "\u0360\u8365\u836F\u036A\u837B\u037E\u0374\u8371\u8353\u0356\u035C\u8359\u0348\u834D\u8347\u0342"
+        + "\u03C0\u83C5\u83CF\u03CA\u83DB\u03DE\u03D4\u83D1\u83F3\u03F6\u03FC\u83F9\u03E8\u83ED\u83E7\u03E2"
+        + "\u83A3\u03A6\u03AC\u83A9\u03B8\u83BD\u83B7\u03B2\u0390\u8395\u839F\u039A\u838B\u038E\u0384\u8381"
+        + "\u0280\u8285\u828F\u028A\u829B\u029E\u0294\u8291\u82B3\u02B6\u02BC\u82B9\u02A8\u82AD\u82A7\u02A2"
+        + "\u82E3\u02E6\u02EC\u82E9\u02F8\u82FD\u82F7\u02F2\u02D0\u82D5\u82DF\u02DA\u82CB\u02CE\u02C4\u82C1"
+        + "\u8243\u0246\u024C\u8249\u0258\u825D\u8257\u0252\u0270\u8275\u827F\u027A\u826B\u026E\u0264\u8261"
+        + "\u0220\u8225\u822F\u022A\u823B\u023E\u0234\u8231\u8213\u0216\u021C\u8219\u0208\u820D\u8207\u0202";
+
+    private static final String POLY_8BB7 =
+        "\u0000\u8BB7\u9CD9\u176E\uB205\u39B2\u2EDC\uA56B\uEFBD\u640A\u7364\uF8D3\u5DB8\uD60F\uC161\u4AD6"
+        + "\u54CD\uDF7A\uC814\u43A3\uE6C8\u6D7F\u7A11\uF1A6\uBB70\u30C7\u27A9\uAC1E\u0975\u82C2\u95AC\u1E1B"
+        + "\uA99A\u222D\u3543\uBEF4\u1B9F\u9028\u8746\u0CF1\u4627\uCD90\uDAFE\u5149\uF422\u7F95\u68FB\uE34C"
+        + "\uFD57\u76E0\u618E\uEA39\u4F52\uC4E5\uD38B\u583C\u12EA\u995D\u8E33\u0584\uA0EF\u2B58\u3C36\uB781"
+        + "\uD883\u5334\u445A\uCFED\u6A86\uE131\uF65F\u7DE8\u373E\uBC89\uABE7\u2050\u853B\u0E8C\u19E2\u9255"
+        + "\u8C4E\u07F9\u1097\u9B20\u3E4B\uB5FC\uA292\u2925\u63F3\uE844\uFF2A\u749D\uD1F6\u5A41\u4D2F\uC698"
+        + "\u7119\uFAAE\uEDC0\u6677\uC31C\u48AB\u5FC5\uD472\u9EA4\u1513\u027D\u89CA\u2CA1\uA716\uB078\u3BCF"
+        + "\u25D4\uAE63\uB90D\u32BA\u97D1\u1C66\u0B08\u80BF\uCA69\u41DE\u56B0\uDD07\u786C\uF3DB\uE4B5\u6F02"
+        + "\u3AB1\uB106\uA668\u2DDF\u88B4\u0303\u146D\u9FDA\uD50C\u5EBB\u49D5\uC262\u6709\uECBE\uFBD0\u7067"
+        + "\u6E7C\uE5CB\uF2A5\u7912\uDC79\u57CE\u40A0\uCB17\u81C1\u0A76\u1D18\u96AF\u33C4\uB873\uAF1D\u24AA"
+        + "\u932B\u189C\u0FF2\u8445\u212E\uAA99\uBDF7\u3640\u7C96\uF721\uE04F\u6BF8\uCE93\u4524\u524A\uD9FD"
+        + "\uC7E6\u4C51\u5B3F\uD088\u75E3\uFE54\uE93A\u628D\u285B\uA3EC\uB482\u3F35\u9A5E\u11E9\u0687\u8D30"
+        + "\uE232\u6985\u7EEB\uF55C\u5037\uDB80\uCCEE\u4759\u0D8F\u8638\u9156\u1AE1\uBF8A\u343D\u2353\uA8E4"
+        + "\uB6FF\u3D48\u2A26\uA191\u04FA\u8F4D\u9823\u1394\u5942\uD2F5\uC59B\u4E2C\uEB47\u60F0\u779E\uFC29"
+        + "\u4BA8\uC01F\uD771\u5CC6\uF9AD\u721A\u6574\uEEC3\uA415\u2FA2\u38CC\uB37B\u1610\u9DA7\u8AC9\u017E"
+        + "\u1F65\u94D2\u83BC\u080B\uAD60\u26D7\u31B9\uBA0E\uF0D8\u7B6F\u6C01\uE7B6\u42DD\uC96A\uDE04\u55B3";
+
+    private static final String POLY_A097 =
+        "\u0000\uA097\uE1B9\u412E\u63E5\uC372\u825C\u22CB\uC7CA\u675D\u2673\u86E4\uA42F\u04B8\u4596\uE501"
+        + "\u2F03\u8F94\uCEBA\u6E2D\u4CE6\uEC71\uAD5F\u0DC8\uE8C9\u485E\u0970\uA9E7\u8B2C\u2BBB\u6A95\uCA02"
+        + "\u5E06\uFE91\uBFBF\u1F28\u3DE3\u9D74\uDC5A\u7CCD\u99CC\u395B\u7875\uD8E2\uFA29\u5ABE\u1B90\uBB07"
+        + "\u7105\uD192\u90BC\u302B\u12E0\uB277\uF359\u53CE\uB6CF\u1658\u5776\uF7E1\uD52A\u75BD\u3493\u9404"
+        + "\uBC0C\u1C9B\u5DB5\uFD22\uDFE9\u7F7E\u3E50\u9EC7\u7BC6\uDB51\u9A7F\u3AE8\u1823\uB8B4\uF99A\u590D"
+        + "\u930F\u3398\u72B6\uD221\uF0EA\u507D\u1153\uB1C4\u54C5\uF452\uB57C\u15EB\u3720\u97B7\uD699\u760E"
+        + "\uE20A\u429D\u03B3\uA324\u81EF\u2178\u6056\uC0C1\u25C0\u8557\uC479\u64EE\u4625\uE6B2\uA79C\u070B"
+        + "\uCD09\u6D9E\u2CB0\u8C27\uAEEC\u0E7B\u4F55\uEFC2\u0AC3\uAA54\uEB7A\u4BED\u6926\uC9B1\u889F\u2808"
+        + "\uD88F\u7818\u3936\u99A1\uBB6A\u1BFD\u5AD3\uFA44\u1F45\uBFD2\uFEFC\u5E6B\u7CA0\uDC37\u9D19\u3D8E"
+        + "\uF78C\u571B\u1635\uB6A2\u9469\u34FE\u75D0\uD547\u3046\u90D1\uD1FF\u7168\u53A3\uF334\uB21A\u128D"
+        + "\u8689\u261E\u6730\uC7A7\uE56C\u45FB\u04D5\uA442\u4143\uE1D4\uA0FA\u006D\u22A6\u8231\uC31F\u6388"
+        + "\uA98A\u091D\u4833\uE8A4\uCA6F\u6AF8\u2BD6\u8B41\u6E40\uCED7\u8FF9\u2F6E\u0DA5\uAD32\uEC1C\u4C8B"
+        + "\u6483\uC414\u853A\u25AD\u0766\uA7F1\uE6DF\u4648\uA349\u03DE\u42F0\uE267\uC0AC\u603B\u2115\u8182"
+        + "\u4B80\uEB17\uAA39\u0AAE\u2865\u88F2\uC9DC\u694B\u8C4A\u2CDD\u6DF3\uCD64\uEFAF\u4F38\u0E16\uAE81"
+        + "\u3A85\u9A12\uDB3C\u7BAB\u5960\uF9F7\uB8D9\u184E\uFD4F\u5DD8\u1CF6\uBC61\u9EAA\u3E3D\u7F13\uDF84"
+        + "\u1586\uB511\uF43F\u54A8\u7663\uD6F4\u97DA\u374D\uD24C\u72DB\u33F5\u9362\uB1A9\u113E\u5010\uF087";
+
+    private static final String POLY_C867 =
+        "\u0000\uC867\u58A9\u90CE\uB152\u7935\uE9FB\u219C\uAAC3\u62A4\uF26A\u3A0D\u1B91\uD3F6\u4338\u8B5F"
+        + "\u9DE1\u5586\uC548\u0D2F\u2CB3\uE4D4\u741A\uBC7D\u3722\uFF45\u6F8B\uA7EC\u8670\u4E17\uDED9\u16BE"
+        + "\uF3A5\u3BC2\uAB0C\u636B\u42F7\u8A90\u1A5E\uD239\u5966\u9101\u01CF\uC9A8\uE834\u2053\uB09D\u78FA"
+        + "\u6E44\uA623\u36ED\uFE8A\uDF16\u1771\u87BF\u4FD8\uC487\u0CE0\u9C2E\u5449\u75D5\uBDB2\u2D7C\uE51B"
+        + "\u2F2D\uE74A\u7784\uBFE3\u9E7F\u5618\uC6D6\u0EB1\u85EE\u4D89\uDD47\u1520\u34BC\uFCDB\u6C15\uA472"
+        + "\uB2CC\u7AAB\uEA65\u2202\u039E\uCBF9\u5B37\u9350\u180F\uD068\u40A6\u88C1\uA95D\u613A\uF1F4\u3993"
+        + "\uDC88\u14EF\u8421\u4C46\u6DDA\uA5BD\u3573\uFD14\u764B\uBE2C\u2EE2\uE685\uC719\u0F7E\u9FB0\u57D7"
+        + "\u4169\u890E\u19C0\uD1A7\uF03B\u385C\uA892\u60F5\uEBAA\u23CD\uB303\u7B64\u5AF8\u929F\u0251\uCA36"
+        + "\u5E5A\u963D\u06F3\uCE94\uEF08\u276F\uB7A1\u7FC6\uF499\u3CFE\uAC30\u6457\u45CB\u8DAC\u1D62\uD505"
+        + "\uC3BB\u0BDC\u9B12\u5375\u72E9\uBA8E\u2A40\uE227\u6978\uA11F\u31D1\uF9B6\uD82A\u104D\u8083\u48E4"
+        + "\uADFF\u6598\uF556\u3D31\u1CAD\uD4CA\u4404\u8C63\u073C\uCF5B\u5F95\u97F2\uB66E\u7E09\uEEC7\u26A0"
+        + "\u301E\uF879\u68B7\uA0D0\u814C\u492B\uD9E5\u1182\u9ADD\u52BA\uC274\u0A13\u2B8F\uE3E8\u7326\uBB41"
+        + "\u7177\uB910\u29DE\uE1B9\uC025\u0842\u988C\u50EB\uDBB4\u13D3\u831D\u4B7A\u6AE6\uA281\u324F\uFA28"
+        + "\uEC96\u24F1\uB43F\u7C58\u5DC4\u95A3\u056D\uCD0A\u4655\u8E32\u1EFC\uD69B\uF707\u3F60\uAFAE\u67C9"
+        + "\u82D2\u4AB5\uDA7B\u121C\u3380\uFBE7\u6B29\uA34E\u2811\uE076\u70B8\uB8DF\u9943\u5124\uC1EA\u098D"
+        + "\u1F33\uD754\u479A\u8FFD\uAE61\u6606\uF6C8\u3EAF\uB5F0\u7D97\uED59\u253E\u04A2\uCCC5\u5C0B\u946C";
+
+    private static final String POLY_1021_REFLECTED =
+        "\u0000\u1189\u2312\u329B\u4624\u57AD\u6536\u74BF\u8C48\u9DC1\uAF5A\uBED3\uCA6C\uDBE5\uE97E\uF8F7"
+        + "\u1081\u0108\u3393\u221A\u56A5\u472C\u75B7\u643E\u9CC9\u8D40\uBFDB\uAE52\uDAED\uCB64\uF9FF\uE876"
+        + "\u2102\u308B\u0210\u1399\u6726\u76AF\u4434\u55BD\uAD4A\uBCC3\u8E58\u9FD1\uEB6E\uFAE7\uC87C\uD9F5"
+        + "\u3183\u200A\u1291\u0318\u77A7\u662E\u54B5\u453C\uBDCB\uAC42\u9ED9\u8F50\uFBEF\uEA66\uD8FD\uC974"
+        + "\u4204\u538D\u6116\u709F\u0420\u15A9\u2732\u36BB\uCE4C\uDFC5\uED5E\uFCD7\u8868\u99E1\uAB7A\uBAF3"
+        + "\u5285\u430C\u7197\u601E\u14A1\u0528\u37B3\u263A\uDECD\uCF44\uFDDF\uEC56\u98E9\u8960\uBBFB\uAA72"
+        + "\u6306\u728F\u4014\u519D\u2522\u34AB\u0630\u17B9\uEF4E\uFEC7\uCC5C\uDDD5\uA96A\uB8E3\u8A78\u9BF1"
+        + "\u7387\u620E\u5095\u411C\u35A3\u242A\u16B1\u0738\uFFCF\uEE46\uDCDD\uCD54\uB9EB\uA862\u9AF9\u8B70"
+        + "\u8408\u9581\uA71A\uB693\uC22C\uD3A5\uE13E\uF0B7\u0840\u19C9\u2B52\u3ADB\u4E64\u5FED\u6D76\u7CFF"
+        + "\u9489\u8500\uB79B\uA612\uD2AD\uC324\uF1BF\uE036\u18C1\u0948\u3BD3\u2A5A\u5EE5\u4F6C\u7DF7\u6C7E"
+        + "\uA50A\uB483\u8618\u9791\uE32E\uF2A7\uC03C\uD1B5\u2942\u38CB\u0A50\u1BD9\u6F66\u7EEF\u4C74\u5DFD"
+        + "\uB58B\uA402\u9699\u8710\uF3AF\uE226\uD0BD\uC134\u39C3\u284A\u1AD1\u0B58\u7FE7\u6E6E\u5CF5\u4D7C"
+        + "\uC60C\uD785\uE51E\uF497\u8028\u91A1\uA33A\uB2B3\u4A44\u5BCD\u6956\u78DF\u0C60\u1DE9\u2F72\u3EFB"
+        + "\uD68D\uC704\uF59F\uE416\u90A9\u8120\uB3BB\uA232\u5AC5\u4B4C\u79D7\u685E\u1CE1\u0D68\u3FF3\u2E7A"
+        + "\uE70E\uF687\uC41C\uD595\uA12A\uB0A3\u8238\u93B1\u6B46\u7ACF\u4854\u59DD\u2D62\u3CEB\u0E70\u1FF9"
+        + "\uF78F\uE606\uD49D\uC514\uB1AB\uA022\u92B9\u8330\u7BC7\u6A4E\u58D5\u495C\u3DE3\u2C6A\u1EF1\u0F78";
+
+    private static final String POLY_3D65_REFLECTED =
+        "\u0000\u365E\u6CBC\u5AE2\uD978\uEF26\uB5C4\u839A\uFF89\uC9D7\u9335\uA56B\u26F1\u10AF\u4A4D\u7C13"
+        + "\uB26B\u8435\uDED7\uE889\u6B13\u5D4D\u07AF\u31F1\u4DE2\u7BBC\u215E\u1700\u949A\uA2C4\uF826\uCE78"
+        + "\u29AF\u1FF1\u4513\u734D\uF0D7\uC689\u9C6B\uAA35\uD626\uE078\uBA9A\u8CC4\u0F5E\u3900\u63E2\u55BC"
+        + "\u9BC4\uAD9A\uF778\uC126\u42BC\u74E2\u2E00\u185E\u644D\u5213\u08F1\u3EAF\uBD35\u8B6B\uD189\uE7D7"
+        + "\u535E\u6500\u3FE2\u09BC\u8A26\uBC78\uE69A\uD0C4\uACD7\u9A89\uC06B\uF635\u75AF\u43F1\u1913\u2F4D"
+        + "\uE135\uD76B\u8D89\uBBD7\u384D\u0E13\u54F1\u62AF\u1EBC\u28E2\u7200\u445E\uC7C4\uF19A\uAB78\u9D26"
+        + "\u7AF1\u4CAF\u164D\u2013\uA389\u95D7\uCF35\uF96B\u8578\uB326\uE9C4\uDF9A\u5C00\u6A5E\u30BC\u06E2"
+        + "\uC89A\uFEC4\uA426\u9278\u11E2\u27BC\u7D5E\u4B00\u3713\u014D\u5BAF\u6DF1\uEE6B\uD835\u82D7\uB489"
+        + "\uA6BC\u90E2\uCA00\uFC5E\u7FC4\u499A\u1378\u2526\u5935\u6F6B\u3589\u03D7\u804D\uB613\uECF1\uDAAF"
+        + "\u14D7\u2289\u786B\u4E35\uCDAF\uFBF1\uA113\u974D\uEB5E\uDD00\u87E2\uB1BC\u3226\u0478\u5E9A\u68C4"
+        + "\u8F13\uB94D\uE3AF\uD5F1\u566B\u6035\u3AD7\u0C89\u709A\u46C4\u1C26\u2A78\uA9E2\u9FBC\uC55E\uF300"
+        + "\u3D78\u0B26\u51C4\u679A\uE400\uD25E\u88BC\uBEE2\uC2F1\uF4AF\uAE4D\u9813\u1B89\u2DD7\u7735\u416B"
+        + "\uF5E2\uC3BC\u995E\uAF00\u2C9A\u1AC4\u4026\u7678\u0A6B\u3C35\u66D7\u5089\uD313\uE54D\uBFAF\u89F1"
+        + "\u4789\u71D7\u2B35\u1D6B\u9EF1\uA8AF\uF24D\uC413\uB800\u8E5E\uD4BC\uE2E2\u6178\u5726\u0DC4\u3B9A"
+        + "\uDC4D\uEA13\uB0F1\u86AF\u0535\u336B\u6989\u5FD7\u23C4\u159A\u4F78\u7926\uFABC\uCCE2\u9600\uA05E"
+        + "\u6E26\u5878\u029A\u34C4\uB75E\u8100\uDBE2\uEDBC\u91AF\uA7F1\uFD13\uCB4D\u48D7\u7E89\u246B\u1235";
+
+    private static final String POLY_8005_REFLECTED =
+        "\u0000\uC0C1\uC181\u0140\uC301\u03C0\u0280\uC241\uC601\u06C0\u0780\uC741\u0500\uC5C1\uC481\u0440"
+        + "\uCC01\u0CC0\u0D80\uCD41\u0F00\uCFC1\uCE81\u0E40\u0A00\uCAC1\uCB81\u0B40\uC901\u09C0\u0880\uC841"
+        + "\uD801\u18C0\u1980\uD941\u1B00\uDBC1\uDA81\u1A40\u1E00\uDEC1\uDF81\u1F40\uDD01\u1DC0\u1C80\uDC41"
+        + "\u1400\uD4C1\uD581\u1540\uD701\u17C0\u1680\uD641\uD201\u12C0\u1380\uD341\u1100\uD1C1\uD081\u1040"
+        + "\uF001\u30C0\u3180\uF141\u3300\uF3C1\uF281\u3240\u3600\uF6C1\uF781\u3740\uF501\u35C0\u3480\uF441"
+        + "\u3C00\uFCC1\uFD81\u3D40\uFF01\u3FC0\u3E80\uFE41\uFA01\u3AC0\u3B80\uFB41\u3900\uF9C1\uF881\u3840"
+        + "\u2800\uE8C1\uE981\u2940\uEB01\u2BC0\u2A80\uEA41\uEE01\u2EC0\u2F80\uEF41\u2D00\uEDC1\uEC81\u2C40"
+        + "\uE401\u24C0\u2580\uE541\u2700\uE7C1\uE681\u2640\u2200\uE2C1\uE381\u2340\uE101\u21C0\u2080\uE041"
+        + "\uA001\u60C0\u6180\uA141\u6300\uA3C1\uA281\u6240\u6600\uA6C1\uA781\u6740\uA501\u65C0\u6480\uA441"
+        + "\u6C00\uACC1\uAD81\u6D40\uAF01\u6FC0\u6E80\uAE41\uAA01\u6AC0\u6B80\uAB41\u6900\uA9C1\uA881\u6840"
+        + "\u7800\uB8C1\uB981\u7940\uBB01\u7BC0\u7A80\uBA41\uBE01\u7EC0\u7F80\uBF41\u7D00\uBDC1\uBC81\u7C40"
+        + "\uB401\u74C0\u7580\uB541\u7700\uB7C1\uB681\u7640\u7200\uB2C1\uB381\u7340\uB101\u71C0\u7080\uB041"
+        + "\u5000\u90C1\u9181\u5140\u9301\u53C0\u5280\u9241\u9601\u56C0\u5780\u9741\u5500\u95C1\u9481\u5440"
+        + "\u9C01\u5CC0\u5D80\u9D41\u5F00\u9FC1\u9E81\u5E40\u5A00\u9AC1\u9B81\u5B40\u9901\u59C0\u5880\u9841"
+        + "\u8801\u48C0\u4980\u8941\u4B00\u8BC1\u8A81\u4A40\u4E00\u8EC1\u8F81\u4F40\u8D01\u4DC0\u4C80\u8C41"
+        + "\u4400\u84C1\u8581\u4540\u8701\u47C0\u4680\u8641\u8201\u42C0\u4380\u8341\u4100\u81C1\u8081\u4040";
+
+    private Crc16Tables() {
+    }
+
+    /**
+     * Returns a new copy of the lookup table, or {@code null} if it was not generated.
+     */
+    static long[] find(CrcParameters parameters) {
+        if (parameters.hashSize() != 16 || parameters.refIn() != parameters.refOut()) {
+            return null;
+        }
+
+        String table = switch ((int) parameters.poly() | (parameters.refIn() ? 0x10000 : 0)) {
+            case 0x00589 -> POLY_0589;
+            case 0x01021 -> POLY_1021;
+            case 0x03D65 -> POLY_3D65;
+            case 0x08005 -> POLY_8005;
+            case 0x08BB7 -> POLY_8BB7;
+            case 0x0A097 -> POLY_A097;
+            case 0x0C867 -> POLY_C867;
+            case 0x11021 -> POLY_1021_REFLECTED;
+            case 0x13D65 -> POLY_3D65_REFLECTED;
+            case 0x18005 -> POLY_8005_REFLECTED;
+            default -> null;
+        };
+        if (table == null) {
+            return null;
+        }
+
+        long[] result = new long[table.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = table.charAt(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Copied from <a href="http://crccalc.com/">crccalc.com</a>
+ * <p>
+ * {@link #Crc32} is also known as CRC-32/ISO-HDLC and {@link #Crc32C} as CRC-32/ISCSI. Both are computed by
+ * {@link CrcCalculator} through the JDK {@link java.util.zip.CRC32} and {@link java.util.zip.CRC32C} intrinsics.
+ */
+@SuppressWarnings("unused")
+@UtilityClass
+public class Crc32 {
+
+    public final CrcAlgorithm Crc32 = new CrcAlgorithm("CRC-32", 32, 0x04C11DB7, 0xFFFFFFFFL, true, true, 0xFFFFFFFFL, 0xCBF43926L);
+    public final CrcAlgorithm Crc32Bzip2 = new CrcAlgorithm("CRC-32/BZIP2", 32, 0x04C11DB7, 0xFFFFFFFFL, false, false, 0xFFFFFFFFL, 0xFC891918L);
+    public final CrcAlgorithm Crc32C = new CrcAlgorithm("CRC-32C", 32, 0x1EDC6F41, 0xFFFFFFFFL, true, true, 0xFFFFFFFFL, 0xE3069283L);
+    public final CrcAlgorithm Crc32D = new CrcAlgorithm("CRC-32D", 32, 0xA833982BL, 0xFFFFFFFFL, true, true, 0xFFFFFFFFL, 0x87315576L);
+    public final CrcAlgorithm Crc32Jamcrc = new CrcAlgorithm("CRC-32/JAMCRC", 32, 0x04C11DB7, 0xFFFFFFFFL, true, true, 0x0, 0x340BC6D9);
+    public final CrcAlgorithm Crc32Mpeg2 = new CrcAlgorithm("CRC-32/MPEG-2", 32, 0x04C11DB7, 0xFFFFFFFFL, false, false, 0x0, 0x0376E6E7);
+    public final CrcAlgorithm Crc32Posix = new CrcAlgorithm("CRC-32/POSIX", 32, 0x04C11DB7, 0x0, false, false, 0xFFFFFFFFL, 0x765E7680);
+    public final CrcAlgorithm Crc32Q = new CrcAlgorithm("CRC-32Q", 32, 0x814141ABL, 0x0, false, false, 0x0, 0x3010BF7F);
+    public final CrcAlgorithm Crc32Xfer = new CrcAlgorithm("CRC-32/XFER", 32, 0x000000AF, 0x0, false, false, 0x0, 0xBD0BE338L);
+
+}
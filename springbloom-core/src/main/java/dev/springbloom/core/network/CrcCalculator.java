@@ -19,35 +19,345 @@
 
 package dev.springbloom.core.network;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.zip.Checksum;
+
 /**
  * Copied from <a href="http://crccalc.com/">crccalc.com</a>
+ * <p>
+ * Besides the original byte-at-a-time algorithm, kept as the reference {@link Engine#BYTE_BY_BYTE} engine,
+ * this calculator supports the slicing-by-8 and slicing-by-16 engines, which consume 8 (or 16) bytes per
+ * iteration by looking up each byte in its own precomputed table. Both reflected and non-reflected
+ * algorithms are supported, for any hash size between 8 and 64 bits.
  */
 @SuppressWarnings("unused")
 public class CrcCalculator {
 
+    private static final VarHandle LONG_LITTLE_ENDIAN =
+        MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BIG_ENDIAN =
+        MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /// Minimum input length for which the {@code VectorCrcEngine} is used, if enabled (non-negative).
+    private static final int VECTOR_THRESHOLD = Integer.getInteger("springbloom.crc.vector.threshold", -1);
+
+    /// Constructor of the {@code VectorCrcEngine}, or {@code null} if it is not enabled or not available.
+    private static final MethodHandle VECTOR_ENGINE_CONSTRUCTOR = VECTOR_THRESHOLD >= 0 ? findVectorEngine() : null;
+
+    public enum Engine {
+
+        /// Processes one byte per iteration. Kept as the reference implementation.
+        BYTE_BY_BYTE(1),
+
+        /// Processes 8 bytes per iteration using 8 lookup tables (16 KiB).
+        SLICING_BY_8(8),
+
+        /// Processes 16 bytes per iteration using 16 lookup tables (32 KiB).
+        SLICING_BY_16(16);
+
+        private final int slices;
+
+        Engine(int slices) {
+            this.slices = slices;
+        }
+    }
+
     private final CrcAlgorithm crcAlgorithm;
+
+    /// Taken once, as the fields of the algorithm are mutable, so the results always match the tables.
+    private final CrcParameters parameters;
+
+    private final Engine engine;
     private final byte hashSize;
-    private final long[] table = new long[256];
-    private long mask = 0xFFFFFFFFFFFFFFFFL;
+    private final long[] table;
+    private final long mask;
+
+    /// Slicing tables, flattened: the table {@code k} starts at {@code k * 256} and holds the CRC of
+    /// each byte value followed by {@code k} zero bytes. The first table is the same as {@link #table}.
+    private final long[] slicingTables;
+
+    /// Factory of the JDK checksum matching the algorithm, if any. See {@link JdkCrcIntrinsic}.
+    private final Supplier<Checksum> intrinsic;
 
+    /// GF(2) matrices feeding 2^k zero bytes into the register, lazily created by {@link #combine}.
+    private volatile long[][] zeroOperators;
+
+    /// Whether the {@code VectorCrcEngine} may be used for large inputs. It is lazily created by {@link #update}.
+    private final boolean vectorized;
+    private volatile LaneCrcEngine vectorEngine;
+
+    /**
+     * Creates a calculator which dispatches to the JDK {@link java.util.zip.CRC32} or {@link java.util.zip.CRC32C}
+     * implementations, which are intrinsified by the JVM into hardware CRC instructions, whenever the algorithm
+     * matches one of them. Otherwise, the {@link Engine#SLICING_BY_16} engine is used, along with the
+     * {@code VectorCrcEngine} for inputs larger than the {@code springbloom.crc.vector.threshold} system
+     * property, when it is set, the {@code jdk.incubator.vector} module is present, and this library was
+     * built with the {@code vector-crc} profile.
+     */
     public CrcCalculator(CrcAlgorithm crcAlgorithm) {
+        this(crcAlgorithm, Engine.SLICING_BY_16, JdkCrcIntrinsic.find(crcAlgorithm), null, true);
+    }
+
+    /**
+     * Creates a calculator which always uses the given table engine.
+     */
+    public CrcCalculator(CrcAlgorithm crcAlgorithm, Engine engine) {
+        this(crcAlgorithm, engine, null, null, false);
+    }
+
+    /**
+     * Instances are immutable and thread-safe, so the ones shared through {@link CrcCalculatorRegistry}
+     * are created only once, eventually from a table generated at build time, see {@link Crc16Tables}.
+     */
+    CrcCalculator(CrcAlgorithm crcAlgorithm, Engine engine, Supplier<Checksum> intrinsic, long[] precomputedTable,
+                  boolean vectorized) {
+        this.intrinsic = intrinsic;
         this.crcAlgorithm = crcAlgorithm;
-        hashSize = (byte) crcAlgorithm.hashSize;
-        if (hashSize < 64) {
-            mask = (1L << hashSize) - 1;
-        }
-        createTable();
+        parameters = CrcParameters.of(crcAlgorithm);
+        hashSize = (byte) parameters.hashSize();
+        mask = hashSize < 64 ? (1L << hashSize) - 1 : 0xFFFFFFFFFFFFFFFFL;
+        table = precomputedTable != null ? precomputedTable : createTable();
+
+        // The slicing engines need at least a whole byte of register to be shifted out on each step.
+        this.engine = hashSize < 8 ? Engine.BYTE_BY_BYTE : engine;
+        slicingTables = createSlicingTables(this.engine.slices);
+        this.vectorized = vectorized && this.engine != Engine.BYTE_BY_BYTE && VECTOR_ENGINE_CONSTRUCTOR != null;
+    }
+
+    public CrcAlgorithm getCrcAlgorithm() {
+        return crcAlgorithm;
+    }
+
+    public Engine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Indicates whether the whole-message computations are delegated to a JDK intrinsic.
+     */
+    public boolean isIntrinsic() {
+        return intrinsic != null;
     }
 
     public long calc(byte[] data, int offset, int length) {
-        long init = crcAlgorithm.refOut ? reverseBits(crcAlgorithm.init, hashSize) : crcAlgorithm.init;
-        long hash = computeCrc(init, data, offset, length);
-        return (hash ^ crcAlgorithm.xorOut) & mask;
+        if (intrinsic != null) {
+            Checksum checksum = intrinsic.get();
+            checksum.update(data, offset, length);
+            return checksum.getValue();
+        }
+        return finalValue(update(initialValue(), data, offset, length));
+    }
+
+    public long calc(ByteBuffer buffer) {
+        if (intrinsic != null) {
+            Checksum checksum = intrinsic.get();
+            checksum.update(buffer);
+            return checksum.getValue();
+        }
+        return finalValue(update(initialValue(), buffer));
+    }
+
+    /**
+     * Creates a new stateful session, which can be fed incrementally and from different sources.
+     */
+    public CrcSession newSession() {
+        return new CrcSession(this);
+    }
+
+    /// Returns a new JDK checksum when this calculator is backed by an intrinsic, {@code null} otherwise.
+    Checksum newIntrinsicChecksum() {
+        return intrinsic != null ? intrinsic.get() : null;
+    }
+
+    /**
+     * Returns the register value used to start a new computation. The register-level methods always
+     * use the table engine, since the JDK intrinsics cannot be resumed from an arbitrary register value.
+     */
+    public long initialValue() {
+        return (parameters.refOut() ? reverseBits(parameters.init(), hashSize) : parameters.init()) & mask;
+    }
+
+    /**
+     * Feeds the data into the register value, as returned by {@link #initialValue()} or by a previous update.
+     */
+    public long update(long crc, byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        if (vectorized && length >= VECTOR_THRESHOLD) {
+            LaneCrcEngine vector = vectorEngine();
+            int vectorLength = vector.alignedLength(length);
+            crc = vector.update(crc, data, offset, vectorLength);
+            offset += vectorLength;
+            length -= vectorLength;
+        }
+        return engine == Engine.BYTE_BY_BYTE
+            ? computeCrc(crc, data, offset, length)
+            : computeCrcSlicing(crc, data, offset, length);
+    }
+
+    /**
+     * Feeds a single byte into the register value.
+     */
+    public long update(long crc, int b) {
+        if (parameters.refOut()) {
+            return (table[(int) ((crc ^ b) & 0xFF)] ^ (crc >>> 8)) & mask;
+        } else {
+            int toRight = Math.max(hashSize - 8, 0);
+            return (table[(int) (((crc >> toRight) ^ b) & 0xFF)] ^ (crc << 8)) & mask;
+        }
+    }
+
+    /**
+     * Feeds the remaining bytes of the buffer into the register value. Heap and direct buffers are read in place,
+     * without any intermediate copy, and the buffer position is moved to its limit.
+     */
+    public long update(long crc, ByteBuffer buffer) {
+        int position = buffer.position();
+        int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            crc = update(crc, buffer.array(), buffer.arrayOffset() + position, limit - position);
+        } else {
+            crc = engine == Engine.BYTE_BY_BYTE
+                ? computeCrc(crc, buffer, position, limit)
+                : computeCrcSlicing(crc, buffer, position, limit);
+        }
+        buffer.position(limit);
+        return crc;
+    }
+
+    /**
+     * Converts the register value into the final CRC value.
+     */
+    public long finalValue(long crc) {
+        return (crc ^ parameters.xorOut()) & mask;
+    }
+
+    /**
+     * Combines the CRC values of two consecutive blocks of data, as if they had been computed in a single call,
+     * using only the length of the second block. This is the same as zlib {@code crc32_combine}, but for any
+     * algorithm, reflected or not.
+     *
+     * @param crc1    The CRC value of the first block.
+     * @param crc2    The CRC value of the second block.
+     * @param length2 The length, in bytes, of the second block.
+     */
+    public long combine(long crc1, long crc2, long length2) {
+        // The CRC is linear: the second register is the first one, shifted through length2 zero bytes,
+        // XORed with the register of the second block computed from zero. The initial and final XOR
+        // values cancel themselves out, except for the shifted part.
+        long shifted = updateZeros((crc1 ^ parameters.xorOut() ^ initialValue()) & mask, length2);
+        return (shifted ^ crc2) & mask;
+    }
+
+    /// Feeds the given number of zero bytes into the register in O(log(length)) matrix multiplications.
+    private long updateZeros(long crc, long length) {
+        long[][] operators = zeroOperators();
+        for (int k = 0; length != 0; k++, length >>>= 1) {
+            if ((length & 1) != 0) {
+                crc = gf2MatrixTimes(operators[k], crc);
+            }
+        }
+        return crc;
+    }
+
+    private long[][] zeroOperators() {
+        long[][] operators = zeroOperators;
+        if (operators == null) {
+            // Concurrent initializations just compute the same matrices.
+            operators = new long[63][];
+            long[] operator = new long[hashSize];
+            for (int bit = 0; bit < hashSize; bit++) {
+                operator[bit] = update(1L << bit, 0);
+            }
+            operators[0] = operator;
+            for (int k = 1; k < operators.length; k++) {
+                operators[k] = gf2MatrixSquare(operators[k - 1]);
+            }
+            zeroOperators = operators;
+        }
+        return operators;
+    }
+
+    /**
+     * Indicates whether the {@code VectorCrcEngine} is enabled and available. See {@link #CrcCalculator(CrcAlgorithm)}.
+     */
+    static boolean isVectorEngineAvailable() {
+        return VECTOR_ENGINE_CONSTRUCTOR != null;
+    }
+
+    LaneCrcEngine vectorEngine() {
+        LaneCrcEngine vector = vectorEngine;
+        if (vector == null) {
+            // Concurrent initializations just create equivalent engines.
+            try {
+                vector = (LaneCrcEngine) VECTOR_ENGINE_CONSTRUCTOR.invokeExact(slicingTables, parameters.refOut(),
+                    (int) hashSize, (LongUnaryOperator) crc -> update(crc, 0));
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unable to create the VectorCrcEngine", e);
+            }
+            vectorEngine = vector;
+        }
+        return vector;
+    }
+
+    /// The {@code VectorCrcEngine} class must not even be loaded without the incubator module.
+    private static MethodHandle findVectorEngine() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        Class<?> engineClass;
+        try {
+            engineClass = Class.forName(CrcCalculator.class.getPackageName() + ".VectorCrcEngine");
+        } catch (ClassNotFoundException e) {
+            // Not built with the vector-crc profile.
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            boolean usable = (boolean) lookup
+                .findStatic(engineClass, "isUsable", MethodType.methodType(boolean.class))
+                .invokeExact();
+            if (!usable) {
+                return null;
+            }
+            return lookup
+                .findConstructor(engineClass,
+                    MethodType.methodType(void.class, long[].class, boolean.class, int.class, LongUnaryOperator.class))
+                .asType(MethodType.methodType(LaneCrcEngine.class,
+                    long[].class, boolean.class, int.class, LongUnaryOperator.class));
+        } catch (Throwable e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static long gf2MatrixTimes(long[] matrix, long vector) {
+        long result = 0;
+        for (int bit = 0; vector != 0; bit++, vector >>>= 1) {
+            if ((vector & 1) != 0) {
+                result ^= matrix[bit];
+            }
+        }
+        return result;
+    }
+
+    private static long[] gf2MatrixSquare(long[] matrix) {
+        long[] square = new long[matrix.length];
+        for (int bit = 0; bit < matrix.length; bit++) {
+            square[bit] = gf2MatrixTimes(matrix, matrix[bit]);
+        }
+        return square;
     }
 
     private long computeCrc(long init, byte[] data, int offset, int length) {
         long crc = init;
-        if (crcAlgorithm.refOut) {
+        if (parameters.refOut()) {
             for (int i = offset; i < offset + length; i++) {
                 crc = (table[(int) ((crc ^ data[i]) & 0xFF)] ^ (crc >>> 8));
                 crc &= mask;
@@ -63,15 +373,151 @@ public class CrcCalculator {
         return crc;
     }
 
-    private void createTable() {
+    private long computeCrc(long init, ByteBuffer buffer, int index, int end) {
+        long crc = init;
+        if (parameters.refOut()) {
+            for (int i = index; i < end; i++) {
+                crc = (table[(int) ((crc ^ buffer.get(i)) & 0xFF)] ^ (crc >>> 8));
+                crc &= mask;
+            }
+        } else {
+            int toRight = Math.max(hashSize - 8, 0);
+            for (int i = index; i < end; i++) {
+                crc = (table[(int) (((crc >> toRight) ^ buffer.get(i) & 0xFF) & 0xFF)] ^ (crc << 8));
+                crc &= mask;
+            }
+        }
+        return crc;
+    }
+
+    private long computeCrcSlicing(long init, byte[] data, int offset, int length) {
+        long crc = init;
+        int index = offset;
+        int end = offset + length;
+        if (parameters.refOut()) {
+            if (engine == Engine.SLICING_BY_16) {
+                for (; end - index >= 16; index += 16) {
+                    crc = updateBlocks(crc,
+                        (long) LONG_LITTLE_ENDIAN.get(data, index), (long) LONG_LITTLE_ENDIAN.get(data, index + 8));
+                }
+            }
+            for (; end - index >= 8; index += 8) {
+                crc = updateBlock(crc, (long) LONG_LITTLE_ENDIAN.get(data, index));
+            }
+        } else {
+            if (engine == Engine.SLICING_BY_16) {
+                for (; end - index >= 16; index += 16) {
+                    crc = updateBlocks(crc,
+                        (long) LONG_BIG_ENDIAN.get(data, index), (long) LONG_BIG_ENDIAN.get(data, index + 8));
+                }
+            }
+            for (; end - index >= 8; index += 8) {
+                crc = updateBlock(crc, (long) LONG_BIG_ENDIAN.get(data, index));
+            }
+        }
+        return computeCrc(crc, data, index, end - index);
+    }
+
+    private long computeCrcSlicing(long init, ByteBuffer buffer, int index, int end) {
+        long crc = init;
+        // Reflected algorithms consume little-endian blocks, the others, big-endian blocks.
+        boolean swap = parameters.refOut() != (buffer.order() == ByteOrder.LITTLE_ENDIAN);
+        if (engine == Engine.SLICING_BY_16) {
+            for (; end - index >= 16; index += 16) {
+                long first = buffer.getLong(index);
+                long second = buffer.getLong(index + 8);
+                crc = swap
+                    ? updateBlocks(crc, Long.reverseBytes(first), Long.reverseBytes(second))
+                    : updateBlocks(crc, first, second);
+            }
+        }
+        for (; end - index >= 8; index += 8) {
+            long block = buffer.getLong(index);
+            crc = updateBlock(crc, swap ? Long.reverseBytes(block) : block);
+        }
+        return computeCrc(crc, buffer, index, end);
+    }
+
+    /// The register is XORed into the first bytes of the block, which is little-endian for reflected
+    /// algorithms and big-endian otherwise.
+    private long updateBlock(long crc, long block) {
+        return parameters.refOut()
+            ? foldReflected(block ^ crc, 0)
+            : foldNonReflected(block ^ (crc << (64 - hashSize)), 0);
+    }
+
+    private long updateBlocks(long crc, long first, long second) {
+        return parameters.refOut()
+            ? foldReflected(first ^ crc, 8) ^ foldReflected(second, 0)
+            : foldNonReflected(first ^ (crc << (64 - hashSize)), 8) ^ foldNonReflected(second, 0);
+    }
+
+    /// Combines the 8 bytes of a little-endian block, where the first byte is the farthest one from the end.
+    private long foldReflected(long block, int firstTable) {
+        long[] tables = slicingTables;
+        int base = firstTable << 8;
+        return tables[base + (7 << 8) + (int) (block & 0xFF)]
+            ^ tables[base + (6 << 8) + (int) ((block >>> 8) & 0xFF)]
+            ^ tables[base + (5 << 8) + (int) ((block >>> 16) & 0xFF)]
+            ^ tables[base + (4 << 8) + (int) ((block >>> 24) & 0xFF)]
+            ^ tables[base + (3 << 8) + (int) ((block >>> 32) & 0xFF)]
+            ^ tables[base + (2 << 8) + (int) ((block >>> 40) & 0xFF)]
+            ^ tables[base + (1 << 8) + (int) ((block >>> 48) & 0xFF)]
+            ^ tables[base + (int) (block >>> 56)];
+    }
+
+    /// Combines the 8 bytes of a big-endian block, where the first byte is the farthest one from the end.
+    private long foldNonReflected(long block, int firstTable) {
+        long[] tables = slicingTables;
+        int base = firstTable << 8;
+        return tables[base + (7 << 8) + (int) (block >>> 56)]
+            ^ tables[base + (6 << 8) + (int) ((block >>> 48) & 0xFF)]
+            ^ tables[base + (5 << 8) + (int) ((block >>> 40) & 0xFF)]
+            ^ tables[base + (4 << 8) + (int) ((block >>> 32) & 0xFF)]
+            ^ tables[base + (3 << 8) + (int) ((block >>> 24) & 0xFF)]
+            ^ tables[base + (2 << 8) + (int) ((block >>> 16) & 0xFF)]
+            ^ tables[base + (1 << 8) + (int) ((block >>> 8) & 0xFF)]
+            ^ tables[base + (int) (block & 0xFF)];
+    }
+
+    /// Returns a copy of the 256-entry lookup table, used to generate {@link Crc16Tables}.
+    long[] getTable() {
+        return table.clone();
+    }
+
+    private long[] createTable() {
+        long[] table = new long[256];
         for (int i = 0; i < table.length; i++) {
             table[i] = createTableEntry(i);
         }
+        return table;
+    }
+
+    private long[] createSlicingTables(int slices) {
+        if (slices == 1) {
+            return table;
+        }
+
+        long[] tables = new long[slices << 8];
+        System.arraycopy(table, 0, tables, 0, table.length);
+        int toRight = hashSize - 8;
+        for (int k = 1; k < slices; k++) {
+            for (int i = 0; i < 256; i++) {
+                // Feeds one more zero byte into the previous entry.
+                long previous = tables[((k - 1) << 8) + i];
+                if (parameters.refOut()) {
+                    tables[(k << 8) + i] = table[(int) (previous & 0xFF)] ^ (previous >>> 8);
+                } else {
+                    tables[(k << 8) + i] = (table[(int) ((previous >>> toRight) & 0xFF)] ^ (previous << 8)) & mask;
+                }
+            }
+        }
+        return tables;
     }
 
     private long createTableEntry(int index) {
         long r = index;
-        if (crcAlgorithm.refIn) {
+        if (parameters.refIn()) {
             r = reverseBits(r, hashSize);
         } else if (hashSize > 8) {
             r <<= (hashSize - 8);
@@ -80,13 +526,13 @@ public class CrcCalculator {
         long lastBit = (1L << (hashSize - 1));
         for (int i = 0; i < 8; i++) {
             if ((r & lastBit) != 0) {
-                r = ((r << 1) ^ crcAlgorithm.poly);
+                r = ((r << 1) ^ parameters.poly());
             } else {
                 r <<= 1;
             }
         }
 
-        if (crcAlgorithm.refOut) {
+        if (parameters.refOut()) {
             r = reverseBits(r, hashSize);
         }
         return r & mask;
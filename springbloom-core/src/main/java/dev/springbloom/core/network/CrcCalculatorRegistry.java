@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe registry of shared {@link CrcCalculator}s, keyed by the {@link CrcAlgorithm} parameters.
+ * Calculators are immutable, so a single instance per algorithm can be used by every connection handler,
+ * instead of rebuilding the lookup tables for each new instance.
+ */
+@SuppressWarnings("unused")
+@UtilityClass
+public class CrcCalculatorRegistry {
+
+    private final Map<CrcParameters, CrcCalculator> calculators = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared calculator of the algorithm, see {@link CrcCalculator#CrcCalculator(CrcAlgorithm)}.
+     */
+    public CrcCalculator get(CrcAlgorithm crcAlgorithm) {
+        CrcParameters parameters = CrcParameters.of(crcAlgorithm);
+        CrcCalculator calculator = calculators.get(parameters);
+        if (calculator == null) {
+            calculator = calculators.computeIfAbsent(parameters, key -> create(crcAlgorithm));
+        }
+        return calculator;
+    }
+
+    private CrcCalculator create(CrcAlgorithm crcAlgorithm) {
+        // Algorithms are mutable, so the calculator keeps its own copy.
+        CrcAlgorithm copy = new CrcAlgorithm(crcAlgorithm.name, crcAlgorithm.hashSize, crcAlgorithm.poly,
+            crcAlgorithm.init, crcAlgorithm.refIn, crcAlgorithm.refOut, crcAlgorithm.xorOut, crcAlgorithm.check);
+        return new CrcCalculator(copy, CrcCalculator.Engine.SLICING_BY_16,
+            JdkCrcIntrinsic.find(copy), Crc16Tables.find(CrcParameters.of(copy)), true);
+    }
+}
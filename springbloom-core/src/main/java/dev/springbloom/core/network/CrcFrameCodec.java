@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary framing with a length prefix and a trailing CRC:
+ * <pre>
+ * +----------------------+-----------------+---------------------------+
+ * | length (4 bytes, BE) | payload         | CRC (hashSize / 8, BE)    |
+ * +----------------------+-----------------+---------------------------+
+ * </pre>
+ * The CRC covers both the length prefix and the payload. Frames are encoded and verified directly on the
+ * given buffers, heap or direct, and decoded payloads are views of the input buffer, so there is no copy
+ * of the payload on either side. Instances are immutable and thread-safe.
+ * <p>
+ * Frames can be written with gathering writes through {@link #frames(ByteBuffer, ByteBuffer...)}, and read
+ * incrementally from partially filled buffers with {@link #decode(ByteBuffer)} or {@link CrcFrameReader}.
+ * This works the same way for {@link java.nio.channels.SocketChannel} and
+ * {@link java.nio.channels.AsynchronousSocketChannel}, as the codec never touches the channel itself.
+ */
+@SuppressWarnings("unused")
+public class CrcFrameCodec {
+
+    public static final int LENGTH_FIELD_SIZE = Integer.BYTES;
+
+    public static final int DEFAULT_MAX_PAYLOAD_LENGTH = 16 * 1024 * 1024;
+
+    public static final int MAX_PAYLOAD_LENGTH = DirectBufferPool.MAX_CAPACITY - LENGTH_FIELD_SIZE - Long.BYTES;
+
+    private final CrcCalculator crcCalculator;
+    private final int crcSize;
+    private final int maxPayloadLength;
+
+    public CrcFrameCodec(CrcAlgorithm crcAlgorithm) {
+        this(crcAlgorithm, DEFAULT_MAX_PAYLOAD_LENGTH);
+    }
+
+    /**
+     * @param maxPayloadLength At most {@link #MAX_PAYLOAD_LENGTH}, so the largest frames still fit in the buffers
+     *                         of a {@link DirectBufferPool}.
+     */
+    public CrcFrameCodec(CrcAlgorithm crcAlgorithm, int maxPayloadLength) {
+        if (maxPayloadLength < 0 || maxPayloadLength > MAX_PAYLOAD_LENGTH) {
+            throw new IllegalArgumentException("Invalid maximum payload length: " + maxPayloadLength);
+        }
+        this.crcCalculator = CrcCalculatorRegistry.get(crcAlgorithm);
+        this.crcSize = (crcAlgorithm.getHashSize() + 7) / 8;
+        this.maxPayloadLength = maxPayloadLength;
+    }
+
+    public int getMaxPayloadLength() {
+        return maxPayloadLength;
+    }
+
+    /**
+     * Number of bytes added to each payload: the length prefix and the CRC.
+     */
+    public int getOverhead() {
+        return LENGTH_FIELD_SIZE + crcSize;
+    }
+
+    public int getMaxFrameLength() {
+        return maxPayloadLength + getOverhead();
+    }
+
+    /**
+     * Writes the remaining bytes of the payload as a single frame into the target buffer,
+     * moving the position of both buffers.
+     */
+    public void encode(ByteBuffer payload, ByteBuffer target) {
+        int length = checkPayloadLength(payload.remaining());
+        long crc = crc(length, payload, payload.position(), length);
+        target.putInt(length).put(payload);
+        putCrc(target, crc);
+    }
+
+    /**
+     * Prepares the payloads for a gathering write, without copying them. The length prefixes and the
+     * CRCs are written into the {@code headers} buffer (preferably a pooled direct one), which needs
+     * {@link #getOverhead()} bytes per payload. The payloads are not moved, and must not be changed
+     * until the returned buffers are fully written.
+     *
+     * @return The prefix, payload and CRC buffers of each frame, in order, to be written with
+     * {@link java.nio.channels.GatheringByteChannel#write(ByteBuffer[])}.
+     */
+    public ByteBuffer[] frames(ByteBuffer headers, ByteBuffer... payloads) {
+        ByteBuffer[] frames = new ByteBuffer[payloads.length * 3];
+        for (int i = 0; i < payloads.length; i++) {
+            ByteBuffer payload = payloads[i];
+            int length = checkPayloadLength(payload.remaining());
+            int position = headers.position();
+            headers.putInt(length);
+            putCrc(headers, crc(length, payload, payload.position(), length));
+            frames[i * 3] = headers.slice(position, LENGTH_FIELD_SIZE);
+            frames[i * 3 + 1] = payload;
+            frames[i * 3 + 2] = headers.slice(position + LENGTH_FIELD_SIZE, crcSize);
+        }
+        return frames;
+    }
+
+    /**
+     * Returns the length of the frame starting at the buffer position, or {@code -1} if the length
+     * prefix has not been fully received yet.
+     *
+     * @throws CorruptedFrameException If the length is larger than the maximum one.
+     */
+    public int frameLength(ByteBuffer buffer) throws CorruptedFrameException {
+        if (buffer.remaining() < LENGTH_FIELD_SIZE) {
+            return -1;
+        }
+        int length = buffer.getInt(buffer.position());
+        if (length < 0 || length > maxPayloadLength) {
+            throw new CorruptedFrameException("Invalid frame length: " + Integer.toUnsignedString(length));
+        }
+        return length + getOverhead();
+    }
+
+    /**
+     * Decodes the frame starting at the buffer position, if it has been fully received. In this case the
+     * buffer position is moved to the next frame and its payload is returned as a view of the buffer,
+     * valid until the buffer is reused. Otherwise, nothing is consumed and {@code null} is returned, so the
+     * caller can {@link ByteBuffer#compact() compact} the buffer and read more data into it.
+     *
+     * @throws CorruptedFrameException If the frame length is invalid or if its CRC does not match.
+     */
+    public ByteBuffer decode(ByteBuffer buffer) throws CorruptedFrameException {
+        int frameLength = frameLength(buffer);
+        if (frameLength < 0 || buffer.remaining() < frameLength) {
+            return null;
+        }
+        int position = buffer.position();
+        int length = frameLength - getOverhead();
+        int payloadPosition = position + LENGTH_FIELD_SIZE;
+        long expected = crc(length, buffer, payloadPosition, length);
+        long actual = 0;
+        for (int i = payloadPosition + length; i < position + frameLength; i++) {
+            actual = (actual << 8) | (buffer.get(i) & 0xFF);
+        }
+        if (actual != expected) {
+            throw new CorruptedFrameException(
+                "CRC mismatch: expected 0x" + Long.toHexString(expected) + ", but got 0x" + Long.toHexString(actual));
+        }
+        buffer.position(position + frameLength);
+        return buffer.slice(payloadPosition, length);
+    }
+
+    private int checkPayloadLength(int length) {
+        if (length > maxPayloadLength) {
+            throw new IllegalArgumentException(
+                "Payload length " + length + " exceeds the maximum of " + maxPayloadLength + "!");
+        }
+        return length;
+    }
+
+    /// Computes the CRC of the length prefix and of the payload in the given region, leaving the buffer untouched.
+    private long crc(int length, ByteBuffer buffer, int position, int payloadLength) {
+        long crc = crcCalculator.initialValue();
+        crc = crcCalculator.update(crc, length >>> 24);
+        crc = crcCalculator.update(crc, (length >>> 16) & 0xFF);
+        crc = crcCalculator.update(crc, (length >>> 8) & 0xFF);
+        crc = crcCalculator.update(crc, length & 0xFF);
+
+        int originalPosition = buffer.position();
+        int originalLimit = buffer.limit();
+        buffer.limit(position + payloadLength).position(position);
+        crc = crcCalculator.update(crc, buffer);
+        buffer.limit(originalLimit).position(originalPosition);
+        return crcCalculator.finalValue(crc);
+    }
+
+    private void putCrc(ByteBuffer target, long crc) {
+        for (int shift = (crcSize - 1) * 8; shift >= 0; shift -= 8) {
+            target.put((byte) (crc >>> shift));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Incremental frame decoding for a single connection, backed by a pooled direct buffer which is grown
+ * (up to the maximum frame length) when a frame does not fit into it. Instances are not thread-safe.
+ * <p>
+ * With a {@link java.nio.channels.SocketChannel}, just call {@link #read(ReadableByteChannel, FrameHandler)}
+ * whenever it is readable. With an {@link java.nio.channels.AsynchronousSocketChannel}, read into
+ * {@link #getReadBuffer()} and call {@link #process(FrameHandler)} from the completion handler.
+ */
+@SuppressWarnings("unused")
+public class CrcFrameReader implements AutoCloseable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final CrcFrameCodec codec;
+    private final DirectBufferPool bufferPool;
+
+    /// Always in write mode, between calls.
+    private ByteBuffer buffer;
+
+    public CrcFrameReader(CrcFrameCodec codec) {
+        this(codec, DirectBufferPool.DEFAULT, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CrcFrameReader(CrcFrameCodec codec, DirectBufferPool bufferPool, int bufferSize) {
+        this.codec = codec;
+        this.bufferPool = bufferPool;
+        this.buffer = bufferPool.acquire(bufferSize);
+    }
+
+    /**
+     * Receives the payloads of the decoded frames. The payload is a view of the reader buffer,
+     * so it must be consumed (or copied) before returning.
+     */
+    @FunctionalInterface
+    public interface FrameHandler {
+
+        void onFrame(ByteBuffer payload) throws IOException;
+    }
+
+    /**
+     * Returns the buffer where the next bytes must be read into, with enough room for the pending frame.
+     */
+    public ByteBuffer getReadBuffer() throws CorruptedFrameException {
+        buffer.flip();
+        int frameLength = codec.frameLength(buffer);
+        if (frameLength > buffer.capacity()) {
+            ByteBuffer larger = bufferPool.acquire(frameLength);
+            larger.put(buffer);
+            bufferPool.release(buffer);
+            buffer = larger;
+        } else {
+            buffer.compact();
+        }
+        return buffer;
+    }
+
+    /**
+     * Decodes all complete frames received so far.
+     *
+     * @return The number of decoded frames.
+     */
+    public int process(FrameHandler handler) throws IOException {
+        buffer.flip();
+        int frames = 0;
+        try {
+            ByteBuffer payload;
+            while ((payload = codec.decode(buffer)) != null) {
+                handler.onFrame(payload);
+                frames++;
+            }
+        } finally {
+            buffer.compact();
+        }
+        return frames;
+    }
+
+    /**
+     * Reads whatever is available from the channel and decodes all complete frames.
+     *
+     * @return The number of decoded frames, or {@code -1} if the end of the stream has been reached.
+     * @throws CorruptedFrameException If the stream ends in the middle of a frame, or if a frame is corrupted.
+     */
+    public int read(ReadableByteChannel channel, FrameHandler handler) throws IOException {
+        int read = channel.read(getReadBuffer());
+        int frames = process(handler);
+        if (read < 0) {
+            if (buffer.position() > 0) {
+                throw new CorruptedFrameException("Stream ended in the middle of a frame!");
+            }
+            return frames > 0 ? frames : -1;
+        }
+        return frames;
+    }
+
+    @Override
+    public void close() {
+        if (buffer != null) {
+            bufferPool.release(buffer);
+            buffer = null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import java.io.OutputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * {@link CheckedOutputStream} which computes the CRC of the data being written using any {@link CrcAlgorithm}.
+ */
+@SuppressWarnings("unused")
+public class CrcOutputStream extends CheckedOutputStream {
+
+    public CrcOutputStream(OutputStream output, CrcAlgorithm crcAlgorithm) {
+        this(output, CrcCalculatorRegistry.get(crcAlgorithm));
+    }
+
+    public CrcOutputStream(OutputStream output, CrcCalculator crcCalculator) {
+        super(output, crcCalculator.newSession());
+    }
+
+    @Override
+    public CrcSession getChecksum() {
+        return (CrcSession) super.getChecksum();
+    }
+
+    /**
+     * Returns the CRC of the data written so far.
+     */
+    public long getCrc() {
+        return getChecksum().getValue();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.zip.Checksum;
+
+/**
+ * Stateful CRC computation, fed incrementally through the {@code update} methods and completed
+ * by {@link #finish()}. Instances are not thread-safe.
+ * <p>
+ * Since it is a {@link Checksum}, it can also be used with {@link java.util.zip.CheckedInputStream}
+ * and {@link java.util.zip.CheckedOutputStream}, see {@link CrcInputStream} and {@link CrcOutputStream}.
+ */
+@SuppressWarnings("unused")
+public class CrcSession implements Checksum {
+
+    /// Largest region of a file mapped at once.
+    private static final long MAX_MAPPED_REGION_SIZE = 1L << 30;
+
+    /// Size of the buffer used to read from channels which cannot be mapped.
+    private static final int CHANNEL_BUFFER_SIZE = 64 * 1024;
+
+    private final CrcCalculator crcCalculator;
+
+    /// JDK checksum used instead of the register when the calculator is backed by an intrinsic.
+    private final Checksum intrinsic;
+
+    private long crc;
+    private long length;
+    private ByteBuffer channelBuffer;
+
+    CrcSession(CrcCalculator crcCalculator) {
+        this.crcCalculator = crcCalculator;
+        this.intrinsic = crcCalculator.newIntrinsicChecksum();
+        this.crc = crcCalculator.initialValue();
+    }
+
+    public CrcCalculator getCrcCalculator() {
+        return crcCalculator;
+    }
+
+    /**
+     * Returns the number of bytes fed into this session since its creation or the last reset.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    @Override
+    public void update(int b) {
+        if (intrinsic != null) {
+            intrinsic.update(b);
+        } else {
+            crc = crcCalculator.update(crc, b);
+        }
+        length++;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        if (intrinsic != null) {
+            intrinsic.update(b, off, len);
+        } else {
+            crc = crcCalculator.update(crc, b, off, len);
+        }
+        length += len;
+    }
+
+    /**
+     * Feeds the remaining bytes of the buffer, either heap, direct or {@link MappedByteBuffer},
+     * without copying them. The buffer position is moved to its limit.
+     */
+    @Override
+    public void update(ByteBuffer buffer) {
+        length += buffer.remaining();
+        if (intrinsic != null) {
+            intrinsic.update(buffer);
+        } else {
+            crc = crcCalculator.update(crc, buffer);
+        }
+    }
+
+    /**
+     * Feeds all bytes read from the channel until its end, or until no more data is available for
+     * non-blocking channels. File channels are memory-mapped from their
+     * current position, and their position is moved to the end of the file.
+     *
+     * @return The number of bytes read.
+     */
+    public long update(ReadableByteChannel channel) throws IOException {
+        if (channel instanceof FileChannel fileChannel) {
+            long position = fileChannel.position();
+            long size = Math.max(fileChannel.size() - position, 0);
+            update(fileChannel, position, size);
+            fileChannel.position(position + size);
+            return size;
+        }
+
+        if (channelBuffer == null) {
+            channelBuffer = ByteBuffer.allocateDirect(CHANNEL_BUFFER_SIZE);
+        }
+
+        long read = 0;
+        int count;
+        while ((count = channel.read(channelBuffer)) >= 0) {
+            if (count == 0) {
+                // Non-blocking channel without available data.
+                break;
+            }
+            read += count;
+            if (!channelBuffer.hasRemaining()) {
+                channelBuffer.flip();
+                update(channelBuffer);
+                channelBuffer.clear();
+            }
+        }
+        channelBuffer.flip();
+        update(channelBuffer);
+        channelBuffer.clear();
+        return read;
+    }
+
+    /**
+     * Feeds the given region of the file, by memory-mapping it. The channel position is not changed.
+     */
+    public void update(FileChannel channel, long position, long size) throws IOException {
+        long end = position + size;
+        for (long start = position; start < end; start += MAX_MAPPED_REGION_SIZE) {
+            long regionSize = Math.min(MAX_MAPPED_REGION_SIZE, end - start);
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, start, regionSize);
+            update(region);
+        }
+    }
+
+    /**
+     * Returns the CRC of the bytes fed so far. The session can still be updated afterward.
+     */
+    @Override
+    public long getValue() {
+        return intrinsic != null ? intrinsic.getValue() : crcCalculator.finalValue(crc);
+    }
+
+    /**
+     * Returns the CRC of the bytes fed so far and resets the session, so it can be reused.
+     */
+    public long finish() {
+        long value = getValue();
+        reset();
+        return value;
+    }
+
+    @Override
+    public void reset() {
+        if (intrinsic != null) {
+            intrinsic.reset();
+        }
+        crc = crcCalculator.initialValue();
+        length = 0;
+    }
+}
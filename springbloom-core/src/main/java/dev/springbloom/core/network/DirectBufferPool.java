@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of direct buffers, grouped by power-of-two capacities. Direct buffers are expensive to allocate
+ * and are only released by the garbage collector, so connections should reuse them instead.
+ * The released buffers are dropped, instead of being pooled, once the pool holds either the maximum
+ * number of buffers of their capacity or the maximum number of bytes. Instances are thread-safe.
+ */
+@SuppressWarnings("unused")
+public class DirectBufferPool {
+
+    /// Holds at most 64 MiB, so a few large frames do not pin their buffers for the lifetime of the JVM.
+    public static final DirectBufferPool DEFAULT = new DirectBufferPool(64, 64L << 20);
+
+    /// Largest power-of-two capacity which can be allocated.
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    /// Buffers below this capacity are all rounded up to it.
+    private static final int MIN_CAPACITY_SHIFT = 10;
+
+    private final int maxBuffersPerCapacity;
+    private final long maxPooledBytes;
+
+    /// Available buffers, indexed by capacity shift (minus {@link #MIN_CAPACITY_SHIFT}).
+    private final List<Queue<ByteBuffer>> buffers;
+    private final AtomicInteger[] sizes;
+    private final AtomicLong pooledBytes = new AtomicLong();
+
+    /**
+     * Creates a pool limited only by the number of buffers of each capacity.
+     */
+    public DirectBufferPool(int maxBuffersPerCapacity) {
+        this(maxBuffersPerCapacity, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a pool limited by the number of buffers of each capacity and by the total capacity of all buffers.
+     */
+    public DirectBufferPool(int maxBuffersPerCapacity, long maxPooledBytes) {
+        this.maxBuffersPerCapacity = maxBuffersPerCapacity;
+        this.maxPooledBytes = maxPooledBytes;
+        int capacities = Integer.SIZE - MIN_CAPACITY_SHIFT;
+        this.buffers = new ArrayList<>(capacities);
+        this.sizes = new AtomicInteger[capacities];
+        for (int i = 0; i < capacities; i++) {
+            buffers.add(new ConcurrentLinkedQueue<>());
+            sizes[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * Returns a cleared direct buffer with at least the given capacity.
+     */
+    public ByteBuffer acquire(int capacity) {
+        int index = index(capacity);
+        ByteBuffer buffer = buffers.get(index).poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(1 << (index + MIN_CAPACITY_SHIFT));
+        }
+        sizes[index].decrementAndGet();
+        pooledBytes.addAndGet(-buffer.capacity());
+        return buffer.clear();
+    }
+
+    /**
+     * Gives the buffer back to the pool. It must not be used afterward.
+     */
+    public void release(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+        if (!buffer.isDirect() || Integer.bitCount(capacity) != 1 || capacity < 1 << MIN_CAPACITY_SHIFT) {
+            return;
+        }
+        int index = index(capacity);
+        if (sizes[index].incrementAndGet() > maxBuffersPerCapacity) {
+            sizes[index].decrementAndGet();
+            return;
+        }
+        if (pooledBytes.addAndGet(capacity) > maxPooledBytes) {
+            pooledBytes.addAndGet(-capacity);
+            sizes[index].decrementAndGet();
+            return;
+        }
+        buffers.get(index).offer(buffer);
+    }
+
+    /**
+     * Returns the total capacity of the buffers currently held by the pool.
+     */
+    public long getPooledBytes() {
+        return pooledBytes.get();
+    }
+
+    private static int index(int capacity) {
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity too large: " + capacity);
+        }
+        int shift = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1);
+        return Math.max(shift, MIN_CAPACITY_SHIFT) - MIN_CAPACITY_SHIFT;
+    }
+}
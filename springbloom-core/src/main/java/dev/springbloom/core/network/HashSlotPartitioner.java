@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Deterministic partitioning of keys into {@value #SLOT_COUNT} hash slots, the same way as Redis Cluster:
+ * the slot is the {@link Crc16#Crc16Xmodem} of the key (as UTF-8), modulo {@value #SLOT_COUNT}.
+ * If the key contains a hash tag, i.e. a non-empty substring between the first <code>{</code> and the next
+ * <code>}</code>, only the hash tag is hashed, so keys sharing it are always assigned to the same slot.
+ * <p>
+ * Each slot is assigned to a node. Instances are immutable, and the {@code slot}/{@code nodeFor} methods
+ * do not allocate, so they can be used on every message or tenant lookup. Changes in the set of nodes
+ * are planned with {@link #rebalance(List)}.
+ *
+ * @param <N> The node type. Nodes are compared by {@link Object#equals(Object)}.
+ */
+public final class HashSlotPartitioner<N> {
+
+    public static final int SLOT_COUNT = 16384;
+
+    private static final CrcCalculator XMODEM = CrcCalculatorRegistry.get(Crc16.Crc16Xmodem);
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /// Node of each slot.
+    private final Object[] assignments;
+    private final List<N> nodes;
+
+    private HashSlotPartitioner(Object[] assignments, List<N> nodes) {
+        this.assignments = assignments;
+        this.nodes = nodes;
+    }
+
+    /**
+     * Assigns contiguous ranges of slots to the nodes, in the given order, as evenly as possible.
+     */
+    public static <N> HashSlotPartitioner<N> of(List<N> nodes) {
+        List<N> distinctNodes = distinct(nodes);
+        Object[] assignments = new Object[SLOT_COUNT];
+        int[] quotas = quotas(distinctNodes.size());
+        int slot = 0;
+        for (int i = 0; i < quotas.length; i++) {
+            Arrays.fill(assignments, slot, slot + quotas[i], distinctNodes.get(i));
+            slot += quotas[i];
+        }
+        return new HashSlotPartitioner<>(assignments, distinctNodes);
+    }
+
+    /**
+     * Creates a partitioner from an explicit slot-to-node assignment table, with {@value #SLOT_COUNT} entries.
+     */
+    public static <N> HashSlotPartitioner<N> of(N[] assignments) {
+        if (assignments.length != SLOT_COUNT) {
+            throw new IllegalArgumentException(
+                "Expected " + SLOT_COUNT + " slot assignments, but got " + assignments.length + "!");
+        }
+        Object[] copy = Arrays.copyOf(assignments, SLOT_COUNT, Object[].class);
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            Objects.requireNonNull(copy[slot], () -> "Slot without node assigned!");
+        }
+        @SuppressWarnings("unchecked")
+        List<N> nodes = distinct((List<N>) Arrays.asList(copy));
+        return new HashSlotPartitioner<>(copy, nodes);
+    }
+
+    public static int slot(byte[] key) {
+        int start = 0;
+        int end = key.length;
+        int open = indexOf(key, (byte) '{', 0);
+        if (open >= 0) {
+            int close = indexOf(key, (byte) '}', open + 1);
+            if (close > open + 1) {
+                start = open + 1;
+                end = close;
+            }
+        }
+        return (int) XMODEM.calc(key, start, end - start) & (SLOT_COUNT - 1);
+    }
+
+    /**
+     * Returns the slot of the UTF-8 encoded key, without encoding it into a new array.
+     */
+    public static int slot(CharSequence key) {
+        int start = 0;
+        int end = key.length();
+        int open = indexOf(key, '{', 0);
+        if (open >= 0) {
+            int close = indexOf(key, '}', open + 1);
+            if (close > open + 1) {
+                start = open + 1;
+                end = close;
+            }
+        }
+
+        long crc = XMODEM.initialValue();
+        for (int i = start; i < end; i++) {
+            char c = key.charAt(i);
+            if (c < 0x80) {
+                crc = XMODEM.update(crc, c);
+            } else if (c < 0x800) {
+                crc = XMODEM.update(crc, 0xC0 | (c >> 6));
+                crc = XMODEM.update(crc, 0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(key.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, key.charAt(++i));
+                    crc = XMODEM.update(crc, 0xF0 | (codePoint >> 18));
+                    crc = XMODEM.update(crc, 0x80 | ((codePoint >> 12) & 0x3F));
+                    crc = XMODEM.update(crc, 0x80 | ((codePoint >> 6) & 0x3F));
+                    crc = XMODEM.update(crc, 0x80 | (codePoint & 0x3F));
+                } else {
+                    // Malformed, replaced the same way as String.getBytes(UTF_8) does.
+                    crc = XMODEM.update(crc, '?');
+                }
+            } else {
+                crc = XMODEM.update(crc, 0xE0 | (c >> 12));
+                crc = XMODEM.update(crc, 0x80 | ((c >> 6) & 0x3F));
+                crc = XMODEM.update(crc, 0x80 | (c & 0x3F));
+            }
+        }
+        return (int) XMODEM.finalValue(crc) & (SLOT_COUNT - 1);
+    }
+
+    /**
+     * Returns the same slot as {@code slot(key.toString())}, without creating the string.
+     */
+    public static int slot(UUID key) {
+        long crc = XMODEM.initialValue();
+        long mostSignificantBits = key.getMostSignificantBits();
+        long leastSignificantBits = key.getLeastSignificantBits();
+        crc = updateHexDigits(crc, mostSignificantBits >>> 32, 8);
+        crc = XMODEM.update(crc, '-');
+        crc = updateHexDigits(crc, mostSignificantBits >>> 16, 4);
+        crc = XMODEM.update(crc, '-');
+        crc = updateHexDigits(crc, mostSignificantBits, 4);
+        crc = XMODEM.update(crc, '-');
+        crc = updateHexDigits(crc, leastSignificantBits >>> 48, 4);
+        crc = XMODEM.update(crc, '-');
+        crc = updateHexDigits(crc, leastSignificantBits, 12);
+        return (int) XMODEM.finalValue(crc) & (SLOT_COUNT - 1);
+    }
+
+    public N nodeForSlot(int slot) {
+        return node(assignments[Objects.checkIndex(slot, SLOT_COUNT)]);
+    }
+
+    public N nodeFor(byte[] key) {
+        return node(assignments[slot(key)]);
+    }
+
+    public N nodeFor(CharSequence key) {
+        return node(assignments[slot(key)]);
+    }
+
+    public N nodeFor(UUID key) {
+        return node(assignments[slot(key)]);
+    }
+
+    /**
+     * Returns the distinct nodes, in the order they were first assigned.
+     */
+    public List<N> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns a copy of the slot-to-node assignment table.
+     */
+    public Object[] getAssignments() {
+        return assignments.clone();
+    }
+
+    /**
+     * Plans the migration of slots needed to distribute them evenly among the given nodes. Slots are kept
+     * on their current node whenever possible, so only the slots of removed nodes and the ones exceeding the
+     * new share of each node are moved. The plan is deterministic: the same input always gives the same plan.
+     */
+    public RebalancePlan<N> rebalance(List<N> targetNodes) {
+        List<N> distinctNodes = distinct(targetNodes);
+        int[] quotas = quotas(distinctNodes.size());
+        Map<N, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < distinctNodes.size(); i++) {
+            indexes.put(distinctNodes.get(i), i);
+        }
+
+        // First, keeps the slots which can stay where they are, up to the quota of each node.
+        Object[] target = new Object[SLOT_COUNT];
+        int[] assigned = new int[quotas.length];
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            Integer index = indexes.get(node(assignments[slot]));
+            if (index != null && assigned[index] < quotas[index]) {
+                target[slot] = assignments[slot];
+                assigned[index]++;
+            }
+        }
+
+        // Then, distributes the remaining slots among the nodes below their quota.
+        int index = 0;
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            if (target[slot] == null) {
+                while (assigned[index] == quotas[index]) {
+                    index++;
+                }
+                target[slot] = distinctNodes.get(index);
+                assigned[index]++;
+            }
+        }
+
+        List<Migration<N>> migrations = new ArrayList<>();
+        int first = -1;
+        for (int slot = 0; slot <= SLOT_COUNT; slot++) {
+            boolean moved = slot < SLOT_COUNT && !target[slot].equals(assignments[slot]);
+            boolean sameRange = moved && first >= 0
+                && assignments[slot].equals(assignments[first]) && target[slot].equals(target[first]);
+            if (first >= 0 && !sameRange) {
+                migrations.add(new Migration<>(first, slot - 1, node(assignments[first]), node(target[first])));
+                first = -1;
+            }
+            if (moved && first < 0) {
+                first = slot;
+            }
+        }
+        return new RebalancePlan<>(Collections.unmodifiableList(migrations),
+            new HashSlotPartitioner<>(target, distinctNodes));
+    }
+
+    /**
+     * Slots from {@code firstSlot} to {@code lastSlot} (inclusive) to be moved from {@code source} to {@code target}.
+     */
+    public record Migration<N>(int firstSlot, int lastSlot, N source, N target) {
+
+        public int slotCount() {
+            return lastSlot - firstSlot + 1;
+        }
+    }
+
+    /**
+     * The migrations needed to go from the current partitioner to the {@code target} one.
+     */
+    public record RebalancePlan<N>(List<Migration<N>> migrations, HashSlotPartitioner<N> target) {
+
+        public int movedSlots() {
+            return migrations.stream().mapToInt(Migration::slotCount).sum();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <N> N node(Object node) {
+        return (N) node;
+    }
+
+    private static long updateHexDigits(long crc, long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            crc = XMODEM.update(crc, HEX_DIGITS[(int) (value >>> shift) & 0xF]);
+        }
+        return crc;
+    }
+
+    private static int indexOf(byte[] key, byte value, int from) {
+        for (int i = from; i < key.length; i++) {
+            if (key[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(CharSequence key, char value, int from) {
+        for (int i = from; i < key.length(); i++) {
+            if (key.charAt(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static <N> List<N> distinct(List<N> nodes) {
+        List<N> distinctNodes = List.copyOf(new LinkedHashSet<>(nodes));
+        if (distinctNodes.isEmpty()) {
+            throw new IllegalArgumentException("At least one node is required!");
+        }
+        if (distinctNodes.size() > SLOT_COUNT) {
+            throw new IllegalArgumentException("There cannot be more nodes than slots!");
+        }
+        return distinctNodes;
+    }
+
+    private static int[] quotas(int nodeCount) {
+        int[] quotas = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            quotas[i] = SLOT_COUNT / nodeCount + (i < SLOT_COUNT % nodeCount ? 1 : 0);
+        }
+        return quotas;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * Maps {@link CrcAlgorithm}s to the JDK checksum implementations, whose {@code update} methods are
+ * replaced by the JVM with intrinsics using the hardware CRC instructions (e.g. SSE 4.2, PCLMULQDQ
+ * or the ARMv8 CRC32 extension).
+ */
+final class JdkCrcIntrinsic {
+
+    private static final CrcParameters CRC_32 = CrcParameters.of(Crc32.Crc32);
+    private static final CrcParameters CRC_32C = CrcParameters.of(Crc32.Crc32C);
+
+    private JdkCrcIntrinsic() {
+    }
+
+    /**
+     * Returns the factory of the JDK checksum which computes exactly the given algorithm,
+     * or {@code null} if there is none.
+     */
+    static Supplier<Checksum> find(CrcAlgorithm crcAlgorithm) {
+        CrcParameters parameters = CrcParameters.of(crcAlgorithm);
+        if (parameters.equals(CRC_32)) {
+            return CRC32::new;
+        } else if (parameters.equals(CRC_32C)) {
+            return CRC32C::new;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package dev.springbloom.core.network;
+
+/**
+ * Engine which feeds whole rounds of input into the register of a {@link CrcCalculator}, several lanes at once.
+ * <p>
+ * The only implementation, {@code VectorCrcEngine}, requires the {@code jdk.incubator.vector} module, so it
+ * is kept in {@code src/vector/java} and only compiled with the {@code vector-crc} profile. Therefore, it is
+ * looked up at runtime by the {@link CrcCalculator}, which never refers to it directly.
+ */
+interface LaneCrcEngine {
+
+    /**
+     * Returns the largest length, up to the given one, made only of whole rounds.
+     */
+    int alignedLength(int length);
+
+    /**
+     * Feeds the data into the register value. The length must be a multiple of the round size.
+     */
+    long update(long crc, byte[] data, int offset, int length);
+}
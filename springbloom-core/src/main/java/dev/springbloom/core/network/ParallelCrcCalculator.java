@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes the CRC of large inputs in parallel: the input is split into chunks, whose CRC values are computed
+ * on a {@link ForkJoinPool} and merged with {@link CrcCalculator#combine(long, long, long)}. The result is
+ * bit-identical to the sequential {@link CrcCalculator#calc(byte[], int, int)}.
+ */
+@SuppressWarnings("unused")
+public class ParallelCrcCalculator {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    /// Largest region of a file mapped at once.
+    private static final long MAX_MAPPED_REGION_SIZE = 1L << 30;
+
+    private final CrcCalculator crcCalculator;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public ParallelCrcCalculator(CrcCalculator crcCalculator) {
+        this(crcCalculator, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public ParallelCrcCalculator(CrcCalculator crcCalculator, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.crcCalculator = crcCalculator;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    public CrcCalculator getCrcCalculator() {
+        return crcCalculator;
+    }
+
+    public long calc(byte[] data, int offset, int length) {
+        return calc(ByteBuffer.wrap(data, offset, length));
+    }
+
+    /**
+     * Computes the CRC of the remaining bytes of the buffer, without changing its position.
+     */
+    public long calc(ByteBuffer buffer) {
+        ByteBuffer data = buffer.slice();
+        if (data.remaining() <= chunkSize) {
+            return crcCalculator.calc(data);
+        }
+        return pool.invoke(new ChunkTask(crcCalculator, chunkSize, data, 0, data.remaining()));
+    }
+
+    /**
+     * Computes the CRC of the given region of the file, by memory-mapping it. The channel position is not changed.
+     */
+    public long calc(FileChannel channel, long position, long size) throws IOException {
+        long crc = crcCalculator.calc(ByteBuffer.allocate(0));
+        long end = position + size;
+        for (long start = position; start < end; start += MAX_MAPPED_REGION_SIZE) {
+            long regionSize = Math.min(MAX_MAPPED_REGION_SIZE, end - start);
+            long regionCrc = calc(channel.map(FileChannel.MapMode.READ_ONLY, start, regionSize));
+            crc = start == position ? regionCrc : crcCalculator.combine(crc, regionCrc, regionSize);
+        }
+        return crc;
+    }
+
+    /// Tasks are never serialized, although ForkJoinTask is Serializable.
+    @SuppressWarnings("serial")
+    private static class ChunkTask extends RecursiveTask<Long> {
+
+        private final CrcCalculator crcCalculator;
+        private final int chunkSize;
+        private final ByteBuffer data;
+        private final int index;
+        private final int length;
+
+        ChunkTask(CrcCalculator crcCalculator, int chunkSize, ByteBuffer data, int index, int length) {
+            this.crcCalculator = crcCalculator;
+            this.chunkSize = chunkSize;
+            this.data = data;
+            this.index = index;
+            this.length = length;
+        }
+
+        @Override
+        protected Long compute() {
+            if (length <= chunkSize) {
+                return crcCalculator.calc(data.slice(index, length));
+            }
+
+            int half = length >>> 1;
+            ChunkTask second = new ChunkTask(crcCalculator, chunkSize, data, index + half, length - half);
+            second.fork();
+            long first = new ChunkTask(crcCalculator, chunkSize, data, index, half).compute();
+            return crcCalculator.combine(first, second.join(), length - half);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.template;
+
+import dev.springbloom.core.exception.ApplicationException;
+import dev.springbloom.core.exception.ThrowingConsumer;
+import dev.springbloom.core.exception.ThrowingFunction;
+import lombok.Getter;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Renders the same template with many contexts, e.g. to send a personalized e-mail to each recipient,
+ * on virtual threads, while at most {@link #getParallelism() parallelism} contexts are rendered at the same time.
+ * <p>
+ * The contexts are consumed lazily, only when there is a free slot, so huge streams are never fully loaded in
+ * memory. The template is parsed only once, as it is kept by the {@link ParsedTemplateCache}, and the messages of
+ * each locale are resolved from the snapshot of the message source.
+ */
+@Getter
+@SuppressWarnings("unused")
+public class BatchTemplateRenderer {
+
+    private final ITemplateEngine templateEngine;
+
+    private final int parallelism;
+
+    public BatchTemplateRenderer(ITemplateEngine templateEngine) {
+        this(templateEngine, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchTemplateRenderer(ITemplateEngine templateEngine, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The parallelism must be positive!");
+        }
+        this.templateEngine = templateEngine;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Renders the template with each context and passes the result to the consumer, which is called
+     * concurrently, in no specific order, and therefore must be thread-safe.
+     *
+     * @return The number of rendered contexts.
+     * @throws ApplicationException If any context could not be rendered. No other context is rendered after that.
+     */
+    public <C extends IContext> long render(String template, Stream<C> contexts, BiConsumer<? super C, String> consumer) {
+        return render(contexts, context -> consumer.accept(context, templateEngine.process(template, context)));
+    }
+
+    /**
+     * Renders the template with each context directly into the writer returned for it, which is closed afterward.
+     *
+     * @return The number of rendered contexts.
+     * @throws ApplicationException If any context could not be rendered. No other context is rendered after that.
+     */
+    public <C extends IContext> long renderTo(
+        String template,
+        Stream<C> contexts,
+        ThrowingFunction<? super C, ? extends Writer> writers
+    ) {
+        return render(contexts, context -> {
+            try (Writer writer = writers.apply(context)) {
+                templateEngine.process(template, context, writer);
+            }
+        });
+    }
+
+    private <C> long render(Stream<C> contexts, ThrowingConsumer<C> renderer) {
+        Semaphore slots = new Semaphore(parallelism);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        long count = 0;
+        // Closing the executor waits for the contexts still being rendered.
+        try (contexts; ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Iterator<C> iterator = contexts.iterator();
+            while (failure.get() == null && iterator.hasNext()) {
+                C context = iterator.next();
+                slots.acquire();
+                executor.execute(() -> {
+                    try {
+                        if (failure.get() == null) {
+                            renderer.accept(context);
+                        }
+                    } catch (Exception ex) {
+                        failure.compareAndSet(null, ex);
+                    } finally {
+                        slots.release();
+                    }
+                });
+                count++;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ApplicationException("Template rendering interrupted!", ex);
+        }
+
+        Exception ex = failure.get();
+        if (ex != null) {
+            throw new ApplicationException("Error while rendering template!", ex);
+        }
+        return count;
+    }
+}
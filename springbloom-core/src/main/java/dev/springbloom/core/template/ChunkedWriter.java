@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.template;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * {@link Writer} which keeps up to {@code flushThreshold} characters before writing them to the underlying writer
+ * and flushing it, so the output is sent in chunks of bounded size while it is still being produced, e.g. to an
+ * HTTP response, instead of being fully materialized in memory.
+ * <p>
+ * Closing it closes the underlying writer as well. Not thread-safe.
+ */
+@SuppressWarnings("unused")
+public class ChunkedWriter extends Writer {
+
+    public static final int DEFAULT_FLUSH_THRESHOLD = 8192;
+
+    private final Writer writer;
+
+    private final char[] buffer;
+
+    private int count;
+
+    public ChunkedWriter(Writer writer) {
+        this(writer, DEFAULT_FLUSH_THRESHOLD);
+    }
+
+    public ChunkedWriter(Writer writer, int flushThreshold) {
+        if (flushThreshold <= 0) {
+            throw new IllegalArgumentException("The flush threshold must be positive!");
+        }
+        this.writer = writer;
+        this.buffer = new char[flushThreshold];
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        if (count == buffer.length) {
+            flush();
+        }
+        buffer[count++] = (char) c;
+    }
+
+    @Override
+    public void write(char @NotNull [] chars, int offset, int length) throws IOException {
+        if (length >= buffer.length) {
+            // Larger than a chunk, so there is no point in copying it.
+            writeBuffer();
+            writer.write(chars, offset, length);
+            writer.flush();
+            return;
+        }
+        if (length > buffer.length - count) {
+            flush();
+        }
+        System.arraycopy(chars, offset, buffer, count, length);
+        count += length;
+    }
+
+    @Override
+    public void write(@NotNull String string, int offset, int length) throws IOException {
+        if (length >= buffer.length) {
+            writeBuffer();
+            writer.write(string, offset, length);
+            writer.flush();
+            return;
+        }
+        if (length > buffer.length - count) {
+            flush();
+        }
+        string.getChars(offset, offset + length, buffer, count);
+        count += length;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeBuffer();
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        if (count > 0) {
+            writer.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.template;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.util.ClassUtils;
+import org.thymeleaf.IEngineConfiguration;
+import org.thymeleaf.cache.AlwaysValidCacheEntryValidity;
+import org.thymeleaf.cache.ICacheEntryValidity;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Map;
+
+/**
+ * {@link ClassLoaderTemplateResolver} whose cacheable templates stay valid until their resource changes.
+ * Templates loaded from JARs never change, while the ones loaded from the file system, e.g. during development,
+ * have their modification time checked at most once every {@link #setCheckIntervalMillis(long) check interval}.
+ */
+@Getter
+@Setter
+@SuppressWarnings("unused")
+public class ModificationAwareTemplateResolver extends ClassLoaderTemplateResolver {
+
+    public static final long DEFAULT_CHECK_INTERVAL_MILLIS = 1000;
+
+    private long checkIntervalMillis = DEFAULT_CHECK_INTERVAL_MILLIS;
+
+    @Override
+    protected ICacheEntryValidity computeValidity(
+        IEngineConfiguration configuration,
+        String ownerTemplate,
+        String template,
+        Map<String, Object> templateResolutionAttributes
+    ) {
+        ICacheEntryValidity validity =
+            super.computeValidity(configuration, ownerTemplate, template, templateResolutionAttributes);
+        if (!validity.isCacheable()) {
+            return validity;
+        }
+
+        File file = file(template);
+        return file != null
+            ? new ModificationTimeValidity(file, checkIntervalMillis)
+            : AlwaysValidCacheEntryValidity.INSTANCE;
+    }
+
+    private File file(String template) {
+        String suffix = getSuffix();
+        String resourceName = getPrefix() + template + (suffix != null && !template.endsWith(suffix) ? suffix : "");
+        if (resourceName.startsWith("/")) {
+            resourceName = resourceName.substring(1);
+        }
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        URL url = classLoader != null ? classLoader.getResource(resourceName) : null;
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Valid while the modification time of the file is the same as when the template was resolved.
+     */
+    static final class ModificationTimeValidity implements ICacheEntryValidity {
+
+        private final File file;
+        private final long lastModified;
+        private final long checkIntervalMillis;
+
+        private volatile long nextCheck;
+
+        ModificationTimeValidity(File file, long checkIntervalMillis) {
+            this.file = file;
+            this.lastModified = file.lastModified();
+            this.checkIntervalMillis = checkIntervalMillis;
+            this.nextCheck = System.currentTimeMillis() + checkIntervalMillis;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
+        @Override
+        public boolean isCacheStillValid() {
+            long now = System.currentTimeMillis();
+            if (now < nextCheck) {
+                return true;
+            }
+            nextCheck = now + checkIntervalMillis;
+            return file.lastModified() == lastModified;
+        }
+    }
+}
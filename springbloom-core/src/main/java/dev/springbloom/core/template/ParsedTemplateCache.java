@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.template;
+
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.cache.ICacheEntryValidityChecker;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.engine.TemplateModel;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of parsed templates, used by the {@link ParsedTemplateCacheManager}.
+ * <p>
+ * Its size is measured in template events (roughly one for each tag, text and expression), so a few large
+ * templates can not push out many small ones. The least recently used templates are evicted first.
+ * <p>
+ * Templates resolved by name are keyed by their name, while long templates, i.e. the content of the templates
+ * resolved by the {@link org.thymeleaf.templateresolver.StringTemplateResolver}, are keyed by the SHA-256 of their
+ * content. An entry is discarded as soon as the validity of its template, e.g. the modification time of its
+ * resource (see {@link ModificationAwareTemplateResolver}), says it is no longer valid.
+ */
+@SuppressWarnings("unused")
+public class ParsedTemplateCache implements ICache<TemplateCacheKey, TemplateModel> {
+
+    public static final long DEFAULT_MAX_WEIGHT = 1_000_000;
+
+    /// Templates longer than that are not names, but contents, and are keyed by their hash.
+    static final int MAX_TEMPLATE_NAME_LENGTH = 256;
+
+    private static final String CONTENT_HASH_PREFIX = "sha256:";
+
+    private final long maxWeight;
+
+    private final Map<TemplateCacheKey, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong weight = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder parses = new LongAdder();
+    private final LongAdder parseNanos = new LongAdder();
+
+    /// Last miss of the current thread, followed by the parsing and, only if it is cacheable, the put of the template.
+    private final ThreadLocal<Miss> lastMiss = new ThreadLocal<>();
+
+    /// Hash of the last long template, as a batch renders the same template instance many times in a row.
+    private volatile ContentKey lastContentKey = new ContentKey(null, null);
+
+    public ParsedTemplateCache() {
+        this(DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * @param maxWeight Maximum number of template events kept by the cache.
+     */
+    public ParsedTemplateCache(long maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("The maximum weight must be positive!");
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    @Override
+    public void put(TemplateCacheKey key, TemplateModel value) {
+        Miss miss = lastMiss.get();
+        if (miss != null) {
+            lastMiss.remove();
+            // Only timed when it is the put of the template just missed.
+            if (miss.key.equals(key)) {
+                parses.increment();
+                parseNanos.add(System.nanoTime() - miss.time);
+            }
+        }
+
+        Entry entry = new Entry(value);
+        if (entry.weight > maxWeight) {
+            return;
+        }
+        puts.increment();
+        Entry previous = entries.put(cacheKey(key), entry);
+        long total = weight.addAndGet(previous != null ? entry.weight - previous.weight : entry.weight);
+        if (total > maxWeight) {
+            evict();
+        }
+    }
+
+    @Override
+    public TemplateModel get(TemplateCacheKey key) {
+        return get(key, null);
+    }
+
+    @Override
+    public TemplateModel get(
+        TemplateCacheKey key,
+        ICacheEntryValidityChecker<? super TemplateCacheKey, ? super TemplateModel> validityChecker
+    ) {
+        // Thymeleaf does not put the templates which are not cacheable, so the previous miss is never timed.
+        lastMiss.remove();
+        TemplateCacheKey cacheKey = cacheKey(key);
+        Entry entry = entries.get(cacheKey);
+        if (entry != null) {
+            boolean valid = validityChecker != null
+                ? validityChecker.checkIsValueStillValid(key, entry.model, entry.creationTime)
+                : entry.model.getTemplateData().getValidity().isCacheStillValid();
+            if (valid) {
+                entry.lastAccess = System.nanoTime();
+                hits.increment();
+                return entry.model;
+            }
+            if (entries.remove(cacheKey, entry)) {
+                weight.addAndGet(-entry.weight);
+                invalidations.increment();
+            }
+        }
+        misses.increment();
+        lastMiss.set(new Miss(key, System.nanoTime()));
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        for (TemplateCacheKey key : entries.keySet()) {
+            remove(key);
+        }
+    }
+
+    @Override
+    public void clearKey(TemplateCacheKey key) {
+        remove(cacheKey(key));
+    }
+
+    /**
+     * Returns the keys of the cached templates, where the long templates are replaced by their hash.
+     */
+    @Override
+    public Set<TemplateCacheKey> keySet() {
+        return Set.copyOf(entries.keySet());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Number of template events kept by the cache.
+     */
+    public long weight() {
+        return weight.get();
+    }
+
+    public Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), puts.sum(), invalidations.sum(), evictions.sum(),
+            parses.sum(), parseNanos.sum());
+    }
+
+    private void remove(TemplateCacheKey key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            weight.addAndGet(-entry.weight);
+        }
+    }
+
+    /**
+     * Removes the least recently used templates until the cache is back to 90% of its maximum weight,
+     * so it does not need to evict again on each put.
+     */
+    private synchronized void evict() {
+        if (weight.get() <= maxWeight) {
+            return;
+        }
+        List<Map.Entry<TemplateCacheKey, Entry>> candidates = new ArrayList<>(entries.entrySet());
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+        long target = maxWeight - maxWeight / 10;
+        for (Map.Entry<TemplateCacheKey, Entry> candidate : candidates) {
+            if (weight.get() <= target) {
+                break;
+            }
+            if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                weight.addAndGet(-candidate.getValue().weight);
+                evictions.increment();
+            }
+        }
+    }
+
+    TemplateCacheKey cacheKey(TemplateCacheKey key) {
+        String template = key.getTemplate();
+        String ownerTemplate = key.getOwnerTemplate();
+        if (template.length() <= MAX_TEMPLATE_NAME_LENGTH
+            && (ownerTemplate == null || ownerTemplate.length() <= MAX_TEMPLATE_NAME_LENGTH)) {
+            return key;
+        }
+        return new TemplateCacheKey(contentKey(ownerTemplate), contentKey(template), key.getTemplateSelectors(),
+            key.getLineOffset(), key.getColOffset(), key.getTemplateMode(), key.getTemplateResolutionAttributes());
+    }
+
+    private String contentKey(String template) {
+        if (template == null || template.length() <= MAX_TEMPLATE_NAME_LENGTH) {
+            return template;
+        }
+        ContentKey last = lastContentKey;
+        if (last.template() == template) {
+            return last.key();
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(template.getBytes(StandardCharsets.UTF_8));
+            String key = CONTENT_HASH_PREFIX + Base64.getEncoder().encodeToString(hash);
+            lastContentKey = new ContentKey(template, key);
+            return key;
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * @param parses     Number of templates parsed after not being found in the cache.
+     * @param parseNanos Total time spent parsing them.
+     */
+    public record Statistics(
+        long hits, long misses, long puts, long invalidations, long evictions, long parses, long parseNanos
+    ) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+
+        public double averageParseMillis() {
+            return parses == 0 ? 0 : parseNanos / 1_000_000d / parses;
+        }
+    }
+
+    private record ContentKey(String template, String key) {
+    }
+
+    private record Miss(TemplateCacheKey key, long time) {
+    }
+
+    private static final class Entry {
+
+        private final TemplateModel model;
+        private final int weight;
+        private final long creationTime = System.currentTimeMillis();
+
+        private volatile long lastAccess = System.nanoTime();
+
+        Entry(TemplateModel model) {
+            this.model = model;
+            this.weight = Math.max(1, model.size());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.template;
+
+import org.thymeleaf.cache.ExpressionCacheKey;
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.cache.ICacheManager;
+import org.thymeleaf.cache.StandardCacheManager;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.engine.TemplateModel;
+
+import java.util.List;
+
+/**
+ * {@link ICacheManager} which keeps the parsed templates in a {@link ParsedTemplateCache}, while all other
+ * caches are the standard ones.
+ */
+@SuppressWarnings("unused")
+public class ParsedTemplateCacheManager implements ICacheManager {
+
+    private final ParsedTemplateCache templateCache;
+
+    private final StandardCacheManager standardCacheManager = new StandardCacheManager();
+
+    public ParsedTemplateCacheManager(ParsedTemplateCache templateCache) {
+        this.templateCache = templateCache;
+    }
+
+    @Override
+    public ICache<TemplateCacheKey, TemplateModel> getTemplateCache() {
+        return templateCache;
+    }
+
+    @Override
+    public ICache<ExpressionCacheKey, Object> getExpressionCache() {
+        return standardCacheManager.getExpressionCache();
+    }
+
+    @Override
+    public <K, V> ICache<K, V> getSpecificCache(String name) {
+        return standardCacheManager.getSpecificCache(name);
+    }
+
+    @Override
+    public List<String> getAllSpecificCacheNames() {
+        return standardCacheManager.getAllSpecificCacheNames();
+    }
+
+    @Override
+    public void clearAllCaches() {
+        templateCache.clear();
+        standardCacheManager.clearAllCaches();
+    }
+}
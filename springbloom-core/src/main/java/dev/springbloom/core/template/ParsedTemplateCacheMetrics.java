@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.template;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the standard cache metrics ({@code cache.gets}, {@code cache.puts}, {@code cache.evictions}, ...)
+ * of a {@link ParsedTemplateCache}, plus its weight, invalidations and the time spent parsing templates.
+ */
+@SuppressWarnings("unused")
+public class ParsedTemplateCacheMetrics extends CacheMeterBinder<ParsedTemplateCache> {
+
+    public ParsedTemplateCacheMetrics(ParsedTemplateCache cache, String cacheName, Iterable<Tag> tags) {
+        super(cache, cacheName, tags);
+    }
+
+    @Override
+    protected Long size() {
+        ParsedTemplateCache cache = getCache();
+        return cache != null ? (long) cache.size() : null;
+    }
+
+    @Override
+    protected long hitCount() {
+        ParsedTemplateCache cache = getCache();
+        return cache != null ? cache.getStatistics().hits() : 0;
+    }
+
+    @Override
+    protected Long missCount() {
+        ParsedTemplateCache cache = getCache();
+        return cache != null ? cache.getStatistics().misses() : null;
+    }
+
+    @Override
+    protected Long evictionCount() {
+        ParsedTemplateCache cache = getCache();
+        return cache != null ? cache.getStatistics().evictions() : null;
+    }
+
+    @Override
+    protected long putCount() {
+        ParsedTemplateCache cache = getCache();
+        return cache != null ? cache.getStatistics().puts() : 0;
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        ParsedTemplateCache cache = getCache();
+        if (cache == null) {
+            return;
+        }
+        Gauge.builder("cache.weight", cache, ParsedTemplateCache::weight)
+            .tags(getTagsWithCacheName())
+            .description("The number of template events in the cache")
+            .register(registry);
+        FunctionCounter.builder("cache.invalidations", cache, c -> c.getStatistics().invalidations())
+            .tags(getTagsWithCacheName())
+            .description("The number of entries discarded because their templates changed")
+            .register(registry);
+        FunctionTimer.builder("cache.parse", cache,
+                c -> c.getStatistics().parses(), c -> c.getStatistics().parseNanos(), TimeUnit.NANOSECONDS)
+            .tags(getTagsWithCacheName())
+            .description("The time spent parsing the templates not found in the cache")
+            .register(registry);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.template;
+
+import lombok.Getter;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * Renders templates straight into a {@link Writer} or an {@link OutputStream}, flushing them each time
+ * {@link #getFlushThreshold() flush threshold} characters are rendered, so large templates, e.g. reports,
+ * are never materialized as a whole {@link String}. The writer or stream is flushed, but not closed.
+ */
+@Getter
+@SuppressWarnings("unused")
+public class StreamingTemplateRenderer {
+
+    private final ITemplateEngine templateEngine;
+
+    private final int flushThreshold;
+
+    public StreamingTemplateRenderer(ITemplateEngine templateEngine) {
+        this(templateEngine, ChunkedWriter.DEFAULT_FLUSH_THRESHOLD);
+    }
+
+    public StreamingTemplateRenderer(ITemplateEngine templateEngine, int flushThreshold) {
+        if (flushThreshold <= 0) {
+            throw new IllegalArgumentException("The flush threshold must be positive!");
+        }
+        this.templateEngine = templateEngine;
+        this.flushThreshold = flushThreshold;
+    }
+
+    public void render(String template, IContext context, Writer writer) {
+        ChunkedWriter chunkedWriter = new ChunkedWriter(writer, flushThreshold);
+        templateEngine.process(template, context, chunkedWriter);
+        try {
+            chunkedWriter.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void render(String template, IContext context, OutputStream outputStream, Charset charset) {
+        render(template, context, new OutputStreamWriter(outputStream, charset));
+    }
+}
@@ -21,33 +21,151 @@ package dev.springbloom.core.validation;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import org.hibernate.validator.internal.constraintvalidators.hv.Mod11CheckValidator;
 
 import java.lang.annotation.Annotation;
-import java.util.regex.Pattern;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
 
-public class AbstractCpfCnpjValidator<A extends Annotation> implements ConstraintValidator<A, CharSequence> {
+/**
+ * Validates CPF and CNPJ values, either formatted (e.g.: 134.241.313-00 and 91.509.901/0001-69) or without
+ * any formatting at all (e.g.: 13424131300 and 91509901000169), in a single pass over the characters,
+ * without regular expressions and without allocating. The alphanumeric CNPJ (e.g.: 12.ABC.345/01DE-35)
+ * is supported as well.
+ * <p>
+ * Besides the Bean Validation contract, validators can be used directly, also in bulk, see
+ * {@link #validateAll(CharSequence[])}. Instances are thread-safe.
+ */
+public abstract class AbstractCpfCnpjValidator<A extends Annotation> implements ConstraintValidator<A, CharSequence> {
 
-    private static final Pattern DIGITS_ONLY = Pattern.compile("\\d+");
+    private static final int CPF_LENGTH = 11;
+    private static final int FORMATTED_CPF_LENGTH = 14;
 
-    protected final Mod11CheckValidator withSeparatorMod11Validator1 = new Mod11CheckValidator();
-    protected final Mod11CheckValidator withSeparatorMod11Validator2 = new Mod11CheckValidator();
+    private static final int CNPJ_LENGTH = 14;
+    private static final int FORMATTED_CNPJ_LENGTH = 18;
 
-    protected final Mod11CheckValidator withoutSeparatorMod11Validator1 = new Mod11CheckValidator();
-    protected final Mod11CheckValidator withoutSeparatorMod11Validator2 = new Mod11CheckValidator();
+    /// Weights of the first and second check digits, for each CNPJ character.
+    private static final int[] CNPJ_WEIGHTS_1 = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] CNPJ_WEIGHTS_2 = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
 
     @Override
     public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
-        if (value == null) {
-            return true;
+        return value == null || isValid(value);
+    }
+
+    /**
+     * Same as {@link #isValid(CharSequence, ConstraintValidatorContext)}, but outside the Bean Validation,
+     * so {@code null} values are considered invalid.
+     */
+    public abstract boolean isValid(CharSequence value);
+
+    /**
+     * Validates all values, returning the indices of the invalid ones, in ascending order.
+     */
+    public int[] validateAll(CharSequence[] values) {
+        return invalidIndices(Arrays.asList(values)).toArray();
+    }
+
+    /**
+     * Returns the indices of the invalid values, in ascending order. The returned stream can be made
+     * {@link IntStream#parallel() parallel} when validating a large number of values.
+     */
+    public IntStream invalidIndices(List<? extends CharSequence> values) {
+        return IntStream.range(0, values.size()).filter(index -> !isValid(values.get(index)));
+    }
+
+    static boolean isValidCpf(CharSequence value) {
+        int length = value.length();
+        boolean formatted = length == FORMATTED_CPF_LENGTH;
+        if (!formatted && length != CPF_LENGTH) {
+            return false;
         }
 
-        if (DIGITS_ONLY.matcher(value).matches()) {
-            return withoutSeparatorMod11Validator1.isValid(value, context)
-                && withoutSeparatorMod11Validator2.isValid(value, context);
-        } else {
-            return withSeparatorMod11Validator1.isValid(value, context)
-                && withSeparatorMod11Validator2.isValid(value, context);
+        int sum1 = 0;
+        int sum2 = 0;
+        int checkDigit1 = 0;
+        int checkDigit2 = 0;
+        boolean repeated = true;
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (formatted && (i == 3 || i == 7 || i == 11)) {
+                if (c != (i == 11 ? '-' : '.')) {
+                    return false;
+                }
+                continue;
+            }
+            int digit = c - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            repeated &= c == value.charAt(0);
+            if (position < 9) {
+                sum1 += digit * (10 - position);
+                sum2 += digit * (11 - position);
+            } else if (position == 9) {
+                checkDigit1 = digit;
+                sum2 += digit * 2;
+            } else {
+                checkDigit2 = digit;
+            }
+            position++;
         }
+
+        // Sequences of the same digit have valid check digits, but they are not valid CPFs.
+        return !repeated && checkDigit1 == checkDigit(sum1) && checkDigit2 == checkDigit(sum2);
+    }
+
+    static boolean isValidCnpj(CharSequence value) {
+        int length = value.length();
+        boolean formatted = length == FORMATTED_CNPJ_LENGTH;
+        if (!formatted && length != CNPJ_LENGTH) {
+            return false;
+        }
+
+        int sum1 = 0;
+        int sum2 = 0;
+        int checkDigit1 = 0;
+        int checkDigit2 = 0;
+        boolean repeated = true;
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (formatted && (i == 2 || i == 6 || i == 10 || i == 15)) {
+                if (c != (i == 10 ? '/' : i == 15 ? '-' : '.')) {
+                    return false;
+                }
+                continue;
+            }
+            repeated &= c == value.charAt(0);
+            if (position < 12) {
+                // The alphanumeric CNPJ uses the ASCII code minus 48 as the value of each character.
+                if ((c < '0' || c > '9') && (c < 'A' || c > 'Z')) {
+                    return false;
+                }
+                sum1 += (c - '0') * CNPJ_WEIGHTS_1[position];
+                sum2 += (c - '0') * CNPJ_WEIGHTS_2[position];
+            } else {
+                int digit = c - '0';
+                if (digit < 0 || digit > 9) {
+                    return false;
+                }
+                if (position == 12) {
+                    checkDigit1 = digit;
+                    sum2 += digit * CNPJ_WEIGHTS_2[position];
+                } else {
+                    checkDigit2 = digit;
+                }
+            }
+            position++;
+        }
+
+        // Sequences of the same digit have valid check digits, but they are not valid CNPJs.
+        return !repeated && checkDigit1 == checkDigit(sum1) && checkDigit2 == checkDigit(sum2);
+    }
+
+    private static int checkDigit(int sum) {
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
     }
 }
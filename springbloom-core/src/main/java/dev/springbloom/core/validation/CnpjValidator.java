@@ -19,7 +19,6 @@
 package dev.springbloom.core.validation;
 
 import dev.springbloom.core.validation.constraints.Cnpj;
-import org.hibernate.validator.constraints.Mod11Check;
 
 /**
  * We didn't use the validation already available by the Hibernate, because we want to validate either
@@ -30,25 +29,7 @@ import org.hibernate.validator.constraints.Mod11Check;
 public class CnpjValidator extends AbstractCpfCnpjValidator<Cnpj> {
 
     @Override
-    public void initialize(Cnpj constraintAnnotation) {
-        // Validates CNPJ strings with separator, eg.: 91.509.901/0001-69.
-        withSeparatorMod11Validator1.initialize(
-            0, 14, 16, true, 9, '0',
-            '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-        );
-        withSeparatorMod11Validator2.initialize(
-            0, 16, 17, true, 9, '0',
-            '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-        );
-
-        // Validates CNPJ strings without separator, eg.: 91509901000169.
-        withoutSeparatorMod11Validator1.initialize(
-            0, 11, 12, true, 9, '0',
-            '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-        );
-        withoutSeparatorMod11Validator2.initialize(
-            0, 12, 13, true, 9, '0',
-            '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-        );
+    public boolean isValid(CharSequence value) {
+        return value != null && isValidCnpj(value);
     }
 }
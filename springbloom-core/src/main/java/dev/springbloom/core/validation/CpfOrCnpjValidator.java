@@ -19,22 +19,11 @@
 package dev.springbloom.core.validation;
 
 import dev.springbloom.core.validation.constraints.CpfOrCnpj;
-import jakarta.validation.ConstraintValidator;
-import jakarta.validation.ConstraintValidatorContext;
 
-public class CpfOrCnpjValidator implements ConstraintValidator<CpfOrCnpj, CharSequence> {
-
-    private final CpfValidator cpfValidator = new CpfValidator();
-    private final CnpjValidator cnpjValidator = new CnpjValidator();
-
-    @Override
-    public void initialize(CpfOrCnpj constraintAnnotation) {
-        cpfValidator.initialize(null);
-        cnpjValidator.initialize(null);
-    }
+public class CpfOrCnpjValidator extends AbstractCpfCnpjValidator<CpfOrCnpj> {
 
     @Override
-    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
-        return cpfValidator.isValid(value, context) || cnpjValidator.isValid(value, context);
+    public boolean isValid(CharSequence value) {
+        return value != null && (isValidCpf(value) || isValidCnpj(value));
     }
 }
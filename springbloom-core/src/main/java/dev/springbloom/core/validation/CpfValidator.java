@@ -19,7 +19,6 @@
 package dev.springbloom.core.validation;
 
 import dev.springbloom.core.validation.constraints.Cpf;
-import org.hibernate.validator.constraints.Mod11Check;
 
 /**
  * We didn't use the validation already available by the Hibernate, because we want to validate either
@@ -30,25 +29,7 @@ import org.hibernate.validator.constraints.Mod11Check;
 public class CpfValidator extends AbstractCpfCnpjValidator<Cpf> {
 
     @Override
-    public void initialize(Cpf constraintAnnotation) {
-        // Validates CPF strings with separator, e.g.: 134.241.313-00.
-        withSeparatorMod11Validator1.initialize(
-            0, 10, 12, true, Integer.MAX_VALUE, '0',
-            '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-        );
-        withSeparatorMod11Validator2.initialize(
-            0, 12, 13, true, Integer.MAX_VALUE, '0',
-            '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-        );
-
-        // Validates CPF strings without a separator, e.g.: 13424131300.
-        withoutSeparatorMod11Validator1.initialize(
-            0, 8, 9, true, Integer.MAX_VALUE, '0',
-            '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-        );
-        withoutSeparatorMod11Validator2.initialize(
-            0, 9, 10, true, Integer.MAX_VALUE, '0',
-            '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-        );
+    public boolean isValid(CharSequence value) {
+        return value != null && isValidCpf(value);
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+@file:Suppress("unused")
+
+package dev.springbloom.core.validation
+
+import arrow.core.Either
+import kotlin.properties.PropertyDelegateProvider
+import kotlin.properties.ReadWriteProperty
+import kotlin.reflect.KProperty
+
+/**
+ * Opt-in incremental validation for long-lived entities. Properties declared with [validated] have their
+ * changes tracked, and each rule declared with [rule] is run again only when one of the properties it
+ * depends on has changed since the last validation. The result of [isValid] is cached until a change.
+ *
+ * Nested incremental entities (directly or inside an [Iterable]) assigned to tracked properties notify
+ * their parents when they change, so changing a leaf only revalidates the path up to the root.
+ * Collections changed in place must be reported through [invalidate].
+ *
+ * E.g.:
+ * ```
+ * class Author(name: String, addresses: List<Address>) : IncrementalTypedValidationEntity() {
+ *     var name by validated(name)
+ *     var addresses by validated(addresses)
+ *
+ *     init {
+ *         rule(::name) { isValid(name.isNotBlank()) { "BlankAuthorName" } }
+ *         rule(::addresses) { isValid(addresses) { "Addresses" } }
+ *     }
+ * }
+ * ```
+ *
+ * Instances are not thread-safe.
+ */
+abstract class IncrementalTypedValidationEntity : TypedValidationEntity {
+
+    private val rules = mutableListOf<ValidationRule>()
+    private val dirtyProperties = mutableSetOf<String>()
+    private val parents = mutableListOf<ParentLink>()
+    /** Errors of the last validation, from which a new exception is created on each call. */
+    private var lastErrors: List<TypedValidationError>? = null
+    private var notifying = false
+
+    /**
+     * Declares a property whose changes are tracked.
+     */
+    protected fun <T> validated(initialValue: T): PropertyDelegateProvider<Any?, ReadWriteProperty<Any?, T>> =
+        PropertyDelegateProvider { _, property -> TrackedProperty(property.name, initialValue) }
+
+    /**
+     * Declares a validation rule, which is run again only when one of the given properties changes.
+     * Rules without any property are run on every validation.
+     */
+    protected fun rule(
+        vararg properties: KProperty<*>,
+        validation: TypedValidationException.() -> List<TypedValidationError>?
+    ) {
+        rules.add(ValidationRule(properties.map { it.name }.toSet(), validation))
+        lastErrors = null
+    }
+
+    /**
+     * Reports changes which cannot be tracked, like the ones made in place in collections.
+     * Without any property, all rules are run again on the next validation.
+     */
+    fun invalidate(vararg properties: KProperty<*>) {
+        if (properties.isEmpty()) {
+            rules.forEach { it.errors = null; it.validated = false }
+            markDirty(null)
+        } else {
+            properties.forEach { markDirty(it.name) }
+        }
+    }
+
+    final override fun isValid(): Either<TypedValidationException, Unit> {
+        lastErrors?.let { return toResult(it) }
+
+        val ex = TypedValidationException()
+        val errors = mutableListOf<TypedValidationError>()
+        for (rule in rules) {
+            if (!rule.validated || rule.properties.isEmpty() || rule.properties.any { it in dirtyProperties }) {
+                rule.errors = rule.validation(ex)
+                rule.validated = true
+            }
+            rule.errors?.let { errors.addAll(it) }
+        }
+        dirtyProperties.clear()
+
+        // Rules without properties cannot be tracked, so their result cannot be cached.
+        if (rules.all { it.properties.isNotEmpty() }) {
+            lastErrors = errors.toList()
+        }
+        return toResult(errors)
+    }
+
+    /**
+     * Creates a new exception each time, so the callers do not share its stack trace, causes nor suppressed
+     * exceptions.
+     */
+    private fun toResult(errors: List<TypedValidationError>): Either<TypedValidationException, Unit> =
+        if (errors.isEmpty()) VALID else Either.Left(TypedValidationException(errors.toMutableList()))
+
+    private fun markDirty(property: String?) {
+        property?.let { dirtyProperties.add(it) }
+        lastErrors = null
+        if (notifying) {
+            return // Cyclic references.
+        }
+        notifying = true
+        try {
+            parents.forEach { it.parent.markDirty(it.property) }
+        } finally {
+            notifying = false
+        }
+    }
+
+    private fun link(value: Any?, property: String) {
+        forEachEntity(value) { it.parents.add(ParentLink(this, property)) }
+    }
+
+    private fun unlink(value: Any?, property: String) {
+        forEachEntity(value) { entity -> entity.parents.removeIf { it.parent === this && it.property == property } }
+    }
+
+    private inline fun forEachEntity(value: Any?, action: (IncrementalTypedValidationEntity) -> Unit) {
+        when (value) {
+            is IncrementalTypedValidationEntity -> action(value)
+            is Iterable<*> -> value.forEach { if (it is IncrementalTypedValidationEntity) action(it) }
+        }
+    }
+
+    private inner class TrackedProperty<T>(private val name: String, private var value: T) :
+        ReadWriteProperty<Any?, T> {
+
+        init {
+            link(value, name)
+        }
+
+        override fun getValue(thisRef: Any?, property: KProperty<*>): T = value
+
+        override fun setValue(thisRef: Any?, property: KProperty<*>, value: T) {
+            if (this.value === value) {
+                return
+            }
+            unlink(this.value, name)
+            this.value = value
+            link(value, name)
+            markDirty(name)
+        }
+    }
+
+    private class ValidationRule(
+        val properties: Set<String>,
+        val validation: TypedValidationException.() -> List<TypedValidationError>?
+    ) {
+        var validated = false
+        var errors: List<TypedValidationError>? = null
+    }
+
+    private class ParentLink(val parent: IncrementalTypedValidationEntity, val property: String)
+
+    private companion object {
+        val VALID: Either<TypedValidationException, Unit> = Either.Right(Unit)
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+@file:Suppress("unused")
+
+package dev.springbloom.core.validation
+
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.RecursiveTask
+
+/**
+ * Number of entities below which a parallel validation task validates them sequentially.
+ */
+private const val PARALLEL_THRESHOLD = 512
+
+/**
+ * Same as [isValid] for collections, but stops at the first invalid entity, returning only its errors.
+ */
+@Suppress("UnusedReceiverParameter")
+inline fun TypedValidationException.isValidFailFast(
+    validationEntities: Iterable<TypedValidationEntity>,
+    crossinline prefix: () -> String = { "" }
+): List<TypedValidationError>? {
+    validationEntities.forEachIndexed { index, entity ->
+        val errors = entity.indexedValidationErrors(prefix(), index)
+        if (errors != null) {
+            return errors
+        }
+    }
+    return null
+}
+
+/**
+ * Same as [isValid] for collections, but the entities are validated in parallel, in the given pool. The errors
+ * are merged in the order of the entities, so the result is exactly the same as the sequential one.
+ */
+@Suppress("UnusedReceiverParameter")
+fun TypedValidationException.isValidInParallel(
+    validationEntities: List<TypedValidationEntity>,
+    pool: ForkJoinPool = ForkJoinPool.commonPool(),
+    prefix: () -> String = { "" }
+): List<TypedValidationError>? {
+    val errors = pool.invoke(BulkValidationTask(validationEntities, prefix(), 0, validationEntities.size))
+    return errors.ifEmpty { null }
+}
+
+/**
+ * Validates the entities lazily, in order, emitting the errors of each one as soon as it is validated.
+ * Useful to report the errors of a large import while it is still being validated.
+ */
+fun Iterable<TypedValidationEntity>.validationErrors(prefix: String = ""): Sequence<TypedValidationError> = sequence {
+    forEachIndexed { index, entity ->
+        entity.indexedValidationErrors(prefix, index)?.let { yieldAll(it) }
+    }
+}
+
+/**
+ * Validates the entity, prefixing its errors with its index in the collection.
+ */
+@PublishedApi
+internal fun TypedValidationEntity.indexedValidationErrors(prefix: String, index: Int): List<TypedValidationError>? {
+    return isValid().fold(
+        ifLeft = { left -> left.typedValidationErrors.map { TypedValidationError("$prefix[$index]${it.errorMessage}") } },
+        ifRight = { null }
+    )
+}
+
+private class BulkValidationTask(
+    private val validationEntities: List<TypedValidationEntity>,
+    private val prefix: String,
+    private val from: Int,
+    private val to: Int
+) : RecursiveTask<List<TypedValidationError>>() {
+
+    override fun compute(): List<TypedValidationError> {
+        if (to - from <= PARALLEL_THRESHOLD) {
+            val errors = mutableListOf<TypedValidationError>()
+            for (index in from until to) {
+                validationEntities[index].indexedValidationErrors(prefix, index)?.let { errors.addAll(it) }
+            }
+            return errors
+        }
+
+        val middle = (from + to) ushr 1
+        val left = BulkValidationTask(validationEntities, prefix, from, middle).fork()
+        val rightErrors = BulkValidationTask(validationEntities, prefix, middle, to).compute()
+        val leftErrors = left.join()
+        return when {
+            rightErrors.isEmpty() -> leftErrors
+            leftErrors.isEmpty() -> rightErrors
+            else -> leftErrors + rightErrors
+        }
+    }
+}
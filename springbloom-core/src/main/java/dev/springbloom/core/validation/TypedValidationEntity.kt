@@ -199,14 +199,9 @@ inline fun TypedValidationException.isValid(
     validationEntities: Iterable<TypedValidationEntity>,
     crossinline prefix: () -> String = { "" }
 ): List<TypedValidationError>? {
-    return validationEntities.mapIndexed { index, entity ->
-        entity.isValid().fold(
-            ifLeft = { left -> left.typedValidationErrors.map { "${prefix()}[$index]${it.errorMessage}" } },
-            ifRight = { null }
-        )
-    }.firstOrNull()?.map {
-        TypedValidationError(it)
-    }?.toList()
+    return validationEntities.flatMapIndexed { index, entity ->
+        entity.indexedValidationErrors(prefix(), index) ?: emptyList()
+    }.ifEmpty { null }
 }
 
 // Auxiliary test functions to use with Hamkrest!
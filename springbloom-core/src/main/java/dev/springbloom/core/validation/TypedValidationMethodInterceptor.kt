@@ -21,6 +21,8 @@ package dev.springbloom.core.validation
 import dev.springbloom.core.not
 import org.aopalliance.intercept.MethodInterceptor
 import org.aopalliance.intercept.MethodInvocation
+import org.springframework.aop.MethodMatcher
+import org.springframework.aop.support.StaticMethodMatcher
 import org.springframework.beans.factory.FactoryBean
 import org.springframework.beans.factory.SmartFactoryBean
 import org.springframework.lang.Nullable
@@ -28,6 +30,7 @@ import org.springframework.util.ClassUtils
 import org.springframework.validation.method.MethodValidationException
 import org.springframework.validation.method.MethodValidationResult
 import java.lang.reflect.Method
+import java.util.concurrent.ConcurrentHashMap
 import kotlin.reflect.full.findAnnotation
 import kotlin.reflect.jvm.kotlinFunction
 
@@ -41,6 +44,7 @@ import kotlin.reflect.jvm.kotlinFunction
  * In case of validation errors, the interceptor can raise
  * [TypedValidationException], or adapt the violations to
  * [MethodValidationResult] and raise [MethodValidationException].
+ * The errors of all the invalid arguments are raised together, in a single [TypedValidationException].
  *
  * Target classes with such annotated methods need to be annotated with Spring's
  * [TypedValidated] annotation at the type level, for their methods to be searched for
@@ -54,50 +58,106 @@ import kotlin.reflect.jvm.kotlinFunction
  */
 class TypedValidationMethodInterceptor : MethodInterceptor {
 
+    companion object {
+
+        private val EMPTY_PLAN = InvocationPlan(IntArray(0), emptyArray(), false)
+
+        /** Invocation plans, computed only once for each method, since it requires (Kotlin) reflection. */
+        private val invocationPlans = ConcurrentHashMap<Method, InvocationPlan>()
+
+        /**
+         * Matches only the methods with something to validate, so the other ones are not intercepted at all.
+         */
+        @JvmField
+        val METHOD_MATCHER: MethodMatcher = object : StaticMethodMatcher() {
+            override fun matches(method: Method, targetClass: Class<*>): Boolean =
+                invocationPlan(method).hasValidations()
+        }
+
+        internal fun invocationPlan(method: Method): InvocationPlan =
+            invocationPlans.computeIfAbsent(method, ::createInvocationPlan)
+
+        private fun createInvocationPlan(method: Method): InvocationPlan {
+            // Avoid Validator invocation on FactoryBean.getObjectType/isSingleton
+            if (isFactoryBeanMetadataMethod(method)) {
+                return EMPTY_PLAN
+            }
+
+            val parameters = method.parameters
+            val validatedArguments = parameters.indices.filter {
+                parameters[it].isAnnotationPresent(TypedValidated::class.java)
+            }.toIntArray()
+
+            // Some synthetic methods cannot be mapped to Kotlin functions.
+            val kotlinFunction = runCatching { method.kotlinFunction }.getOrNull()
+            val validatedReturnValue = kotlinFunction?.returnType?.findAnnotation<TypedValidated>() != null ||
+                method.returnType.isAnnotationPresent(TypedValidated::class.java)
+
+            if (validatedArguments.isEmpty() && !validatedReturnValue) {
+                return EMPTY_PLAN
+            }
+            return InvocationPlan(validatedArguments, parameters.map { it.name }.toTypedArray(), validatedReturnValue)
+        }
+
+        private fun isFactoryBeanMetadataMethod(method: Method): Boolean {
+            val clazz = method.declaringClass
+
+            // Call from an interface-based proxy handle, allowing for an efficient check?
+            if (clazz.isInterface) {
+                return ((clazz == FactoryBean::class.java || clazz == SmartFactoryBean::class.java) &&
+                    method.name != "getObject")
+            }
+
+            // Call from CGLIB proxy handle, potentially implementing a FactoryBean method?
+            var factoryBeanType: Class<*>? = null
+            if (SmartFactoryBean::class.java.isAssignableFrom(clazz)) {
+                factoryBeanType = SmartFactoryBean::class.java
+            } else if (FactoryBean::class.java.isAssignableFrom(clazz)) {
+                factoryBeanType = FactoryBean::class.java
+            }
+            return (factoryBeanType != null && method.name != "getObject" &&
+                ClassUtils.hasMethod(factoryBeanType, method))
+        }
+    }
+
     @Nullable
     @Throws(Throwable::class)
     override fun invoke(invocation: MethodInvocation): Any? {
-        // Avoid Validator invocation on FactoryBean.getObjectType/isSingleton
-        if (isFactoryBeanMetadataMethod(invocation.method)) {
+        val plan = invocationPlan(invocation.method)
+        if (!plan.hasValidations()) {
             return invocation.proceed()
         }
 
-        val method = invocation.method
         val arguments = invocation.arguments
-        val entitiesToValidated = method.parameters.filter {
-            it.isAnnotationPresent(TypedValidated::class.java)
-        }.map {
-            method.parameters.indexOf(it)
-        }.map {
-            if (not { arguments[it] is TypedValidationEntity }) {
-                throw IllegalArgumentException("The argument '${method.parameters[it].name}' object " +
+        for (index in plan.validatedArguments) {
+            val argument = arguments[index]
+            if (not { argument is TypedValidationEntity }) {
+                throw IllegalArgumentException("The argument '${plan.parameterNames[index]}' object " +
                     "does not implements the TypedValidationEntity interface!"
                 )
             }
-            arguments[it] as TypedValidationEntity
         }
-
-        if (entitiesToValidated.isNotEmpty()) {
-            val typedValidationException = invokeValidatorForArguments(entitiesToValidated)
-            if (typedValidationException != null) {
-                throw typedValidationException
-            }
+        // All the invalid arguments are reported at once.
+        val typedValidationExceptions = plan.validatedArguments.mapNotNull { index ->
+            invokeValidator(arguments[index] as TypedValidationEntity)
+        }
+        when (typedValidationExceptions.size) {
+            0 -> {}
+            1 -> throw typedValidationExceptions[0]
+            else -> throw TypedValidationException(
+                typedValidationExceptions.flatMapTo(mutableListOf()) { it.typedValidationErrors }
+            )
         }
 
         val returnValue = invocation.proceed()
-        val kotlinFunction = method.kotlinFunction
-        val returnType = kotlinFunction?.returnType
-        val isTypedValidatedPresent = returnType?.findAnnotation<TypedValidated>() != null ||
-            method.returnType.isAnnotationPresent(TypedValidated::class.java)
-
-        if (isTypedValidatedPresent) {
+        if (plan.validatedReturnValue) {
             if (not { returnValue is TypedValidationEntity }) {
                 throw IllegalArgumentException(
                     "The returned object does not implements the TypedValidationEntity interface!"
                 )
             }
 
-            val typedValidationException = invokeValidatorForReturnValue(returnValue as TypedValidationEntity)
+            val typedValidationException = invokeValidator(returnValue as TypedValidationEntity)
             if (typedValidationException != null) {
                 throw typedValidationException
             }
@@ -107,36 +167,23 @@ class TypedValidationMethodInterceptor : MethodInterceptor {
     }
 
     /**
-     * Invoke the validator and return the resulting typed validation exceptions.
+     * What has to be validated when a method is invoked.
+     *
+     * @property validatedArguments Indices of the arguments annotated with [TypedValidated].
+     * @property validatedReturnValue Whether the return value has to be validated too.
      */
-    private fun invokeValidatorForArguments(entities: List<TypedValidationEntity>): TypedValidationException? {
-        return entities.map { entity -> invokeValidatorForReturnValue(entity) }.firstOrNull()
+    internal class InvocationPlan(
+        val validatedArguments: IntArray,
+        val parameterNames: Array<String>,
+        val validatedReturnValue: Boolean
+    ) {
+        fun hasValidations(): Boolean = validatedArguments.isNotEmpty() || validatedReturnValue
     }
 
     /**
      * Invoke the validator and return the resulting violations.
      */
-    private fun invokeValidatorForReturnValue(entity: TypedValidationEntity): TypedValidationException? {
+    private fun invokeValidator(entity: TypedValidationEntity): TypedValidationException? {
         return entity.isValid().fold(ifLeft = { it }, ifRight = { null })
     }
-
-    private fun isFactoryBeanMetadataMethod(method: Method): Boolean {
-        val clazz = method.declaringClass
-
-        // Call from an interface-based proxy handle, allowing for an efficient check?
-        if (clazz.isInterface) {
-            return ((clazz == FactoryBean::class.java || clazz == SmartFactoryBean::class.java) &&
-                method.name != "getObject")
-        }
-
-        // Call from CGLIB proxy handle, potentially implementing a FactoryBean method?
-        var factoryBeanType: Class<*>? = null
-        if (SmartFactoryBean::class.java.isAssignableFrom(clazz)) {
-            factoryBeanType = SmartFactoryBean::class.java
-        } else if (FactoryBean::class.java.isAssignableFrom(clazz)) {
-            factoryBeanType = FactoryBean::class.java
-        }
-        return (factoryBeanType != null && method.name != "getObject" &&
-            ClassUtils.hasMethod(factoryBeanType, method))
-    }
 }
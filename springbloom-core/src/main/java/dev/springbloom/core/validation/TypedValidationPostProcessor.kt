@@ -20,6 +20,7 @@ package dev.springbloom.core.validation
 
 import org.springframework.aop.Pointcut
 import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor
+import org.springframework.aop.support.ComposablePointcut
 import org.springframework.aop.support.DefaultPointcutAdvisor
 import org.springframework.aop.support.annotation.AnnotationMatchingPointcut
 import org.springframework.beans.factory.InitializingBean
@@ -69,7 +70,9 @@ open class TypedValidationPostProcessor : AbstractBeanFactoryAwareAdvisingPostPr
     }
 
     override fun afterPropertiesSet() {
-        val pointcut: Pointcut = AnnotationMatchingPointcut(validatedAnnotationType, true)
+        // Methods without anything to validate are not even intercepted.
+        val pointcut: Pointcut = ComposablePointcut(AnnotationMatchingPointcut(validatedAnnotationType, true))
+            .intersection(TypedValidationMethodInterceptor.METHOD_MATCHER)
         this.advisor = DefaultPointcutAdvisor(pointcut, TypedValidationMethodInterceptor())
     }
 }
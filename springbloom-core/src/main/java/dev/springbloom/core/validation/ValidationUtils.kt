@@ -19,22 +19,154 @@
 package dev.springbloom.core.validation
 
 import jakarta.validation.ConstraintViolationException
+import jakarta.validation.GroupSequence
 import jakarta.validation.Validation
+import jakarta.validation.Validator
+import jakarta.validation.ValidatorFactory
+import java.lang.ref.ReferenceQueue
+import java.lang.ref.WeakReference
+import java.util.concurrent.ConcurrentHashMap
 
 class ValidationUtils {
     companion object {
+
+        @Volatile
+        private var validatorFactory: ValidatorFactory? = null
+
+        @Volatile
+        private var sharedValidator: Validator? = null
+
+        /** Whether a class has any constraint to be checked, for each combination of groups. */
+        private val validationPlans = ConcurrentHashMap<ValidationPlanKey, Boolean>()
+
+        /**
+         * Instances already validated by [validateOnce], with the groups they were validated against. They are
+         * compared by identity and weakly referenced, so they are forgotten once no longer used elsewhere.
+         */
+        private val validatedInstances = ConcurrentHashMap<IdentityWeakReference, MutableSet<List<Class<*>>>>()
+
+        private val collectedInstances = ReferenceQueue<Any>()
+
+        /**
+         * The shared validator. Its factory is bootstrapped only once, and since the constraint metadata of each
+         * class is kept by the factory, it is also computed only once.
+         */
+        val validator: Validator
+            get() = sharedValidator ?: synchronized(this) {
+                sharedValidator ?: Validation.buildDefaultValidatorFactory().let { factory ->
+                    validatorFactory = factory
+                    factory.validator.also { sharedValidator = it }
+                }
+            }
+
         fun <T> validate(obj: T, vararg groups: Class<*>?) {
             obj.validate(*groups)
         }
+
+        fun <T> validateOnce(obj: T, vararg groups: Class<*>?) {
+            obj.validateOnce(*groups)
+        }
+
+        /**
+         * Forgets the instances already validated by [validateOnce], e.g. after the configuration properties
+         * have been rebound.
+         */
+        fun clearValidatedInstances() {
+            validatedInstances.clear()
+        }
+
+        /**
+         * Closes the shared validator factory, which will be bootstrapped again if needed.
+         */
+        fun close() {
+            synchronized(this) {
+                validatorFactory?.close()
+                validatorFactory = null
+                sharedValidator = null
+                validationPlans.clear()
+                validatedInstances.clear()
+            }
+        }
+
+        internal fun <T> doValidate(obj: T, groups: List<Class<*>>) {
+            if (obj == null || !isConstrained(obj.javaClass, groups)) {
+                return
+            }
+            val constraintViolations = validator.validate(obj, *groups.toTypedArray())
+            if (constraintViolations.isNotEmpty()) {
+                throw ConstraintViolationException(constraintViolations)
+            }
+        }
+
+        internal fun <T> doValidateOnce(obj: T, groups: List<Class<*>>) {
+            if (obj == null || validatedInstances[IdentityWeakReference(obj)]?.contains(groups) == true) {
+                return
+            }
+            doValidate(obj, groups)
+            expungeCollectedInstances()
+            validatedInstances
+                .computeIfAbsent(IdentityWeakReference(obj, collectedInstances)) { ConcurrentHashMap.newKeySet() }
+                .add(groups)
+        }
+
+        private fun expungeCollectedInstances() {
+            while (true) {
+                val reference = collectedInstances.poll() ?: return
+                validatedInstances.remove(reference as IdentityWeakReference)
+            }
+        }
+
+        private fun isConstrained(type: Class<*>, groups: List<Class<*>>): Boolean =
+            validationPlans.computeIfAbsent(ValidationPlanKey(type, groups)) {
+                // Group sequences are not expanded by the metadata API, so they are always validated.
+                if (groups.any { group -> group.isAnnotationPresent(GroupSequence::class.java) }) {
+                    return@computeIfAbsent true
+                }
+                val groupArray = groups.toTypedArray()
+                val beanDescriptor = validator.getConstraintsForClass(type)
+                beanDescriptor.findConstraints().unorderedAndMatchingGroups(*groupArray).hasConstraints() ||
+                    beanDescriptor.constrainedProperties.any { property ->
+                        property.isCascaded ||
+                            property.constrainedContainerElementTypes.isNotEmpty() ||
+                            property.findConstraints().unorderedAndMatchingGroups(*groupArray).hasConstraints()
+                    }
+            }
+
+        private data class ValidationPlanKey(val type: Class<*>, val groups: List<Class<*>>)
+
+        /**
+         * Weak reference compared by the identity of its referent, which stays equal to itself once cleared,
+         * so it can still be removed from the map.
+         */
+        private class IdentityWeakReference(
+            referent: Any,
+            queue: ReferenceQueue<Any>? = null
+        ) : WeakReference<Any>(referent, queue) {
+
+            private val identityHashCode = System.identityHashCode(referent)
+
+            override fun hashCode(): Int = identityHashCode
+
+            override fun equals(other: Any?): Boolean =
+                this === other || other is IdentityWeakReference && get().let { it != null && it === other.get() }
+        }
     }
 }
 
+/**
+ * Validates this object with the shared validator, throwing a [ConstraintViolationException] if it is invalid.
+ * Classes without any constraint for the given groups are skipped, without going through the validator.
+ */
 fun <T> T.validate(vararg groups: Class<*>?) {
-    Validation.buildDefaultValidatorFactory().use { factory ->
-        val validator = factory.validator
-        val constraintViolations = validator.validate(this, *groups)
-        if (constraintViolations.isNotEmpty()) {
-            throw ConstraintViolationException(constraintViolations)
-        }
-    }
+    ValidationUtils.doValidate(this, groups.filterNotNull())
+}
+
+/**
+ * Same as [validate], but each instance is validated only once for the given groups, while it is valid.
+ * Meant for long-lived objects which do not change after being created, like configuration properties,
+ * since the validated instances are remembered, while they are in use, until
+ * [ValidationUtils.clearValidatedInstances] is called.
+ */
+fun <T> T.validateOnce(vararg groups: Class<*>?) {
+    ValidationUtils.doValidateOnce(this, groups.filterNotNull())
 }
@@ -22,7 +22,6 @@ import dev.springbloom.core.validation.CnpjValidator;
 import jakarta.validation.Constraint;
 import jakarta.validation.Payload;
 import jakarta.validation.ReportAsSingleViolation;
-import jakarta.validation.constraints.Pattern;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.Repeatable;
@@ -38,7 +37,6 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  *
  * @see org.hibernate.validator.constraints.br.CNPJ
  */
-@Pattern(regexp = "^(\\d{2}\\.\\d{3}\\.\\d{3}/\\d{4}-\\d{2})$|^(\\d{14})$")
 @ReportAsSingleViolation
 @Documented
 @Constraint(validatedBy = {CnpjValidator.class})
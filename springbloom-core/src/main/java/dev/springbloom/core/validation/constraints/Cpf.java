@@ -22,7 +22,6 @@ import dev.springbloom.core.validation.CpfValidator;
 import jakarta.validation.Constraint;
 import jakarta.validation.Payload;
 import jakarta.validation.ReportAsSingleViolation;
-import jakarta.validation.constraints.Pattern;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.Repeatable;
@@ -38,19 +37,6 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  *
  * @see org.hibernate.validator.constraints.br.CPF
  */
-@Pattern(regexp = "^(\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2})$|^(\\d{11})$")
-
-// We need to exclude the cases below as they pass through the module validation, but they are invalid.
-@Pattern(regexp = "^(?:(?!000\\.?000\\.?000-?00).)*$")
-@Pattern(regexp = "^(?:(?!111\\.?111\\.?111-?11).)*$")
-@Pattern(regexp = "^(?:(?!222\\.?222\\.?222-?22).)*$")
-@Pattern(regexp = "^(?:(?!333\\.?333\\.?333-?33).)*$")
-@Pattern(regexp = "^(?:(?!444\\.?444\\.?444-?44).)*$")
-@Pattern(regexp = "^(?:(?!555\\.?555\\.?555-?55).)*$")
-@Pattern(regexp = "^(?:(?!666\\.?666\\.?666-?66).)*$")
-@Pattern(regexp = "^(?:(?!777\\.?777\\.?777-?77).)*$")
-@Pattern(regexp = "^(?:(?!888\\.?888\\.?888-?88).)*$")
-@Pattern(regexp = "^(?:(?!999\\.?999\\.?999-?99).)*$")
 @ReportAsSingleViolation
 @Documented
 @Constraint(validatedBy = {CpfValidator.class})
@@ -22,7 +22,6 @@ import dev.springbloom.core.validation.CpfOrCnpjValidator;
 import jakarta.validation.Constraint;
 import jakarta.validation.Payload;
 import jakarta.validation.ReportAsSingleViolation;
-import jakarta.validation.constraints.Pattern;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.Repeatable;
@@ -36,23 +35,6 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * @see Cpf
  * @see Cnpj
  */
-@Pattern(regexp =
-    "^(\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2})$|" +
-    "^(\\d{11})$|" +
-    "^(\\d{2}\\.\\d{3}\\.\\d{3}/\\d{4}-\\d{2})$|" +
-    "^(\\d{14})$")
-
-// We need to exclude the cases below as they pass through the module validation, but they are invalid.
-@Pattern(regexp = "^(?:(?!000\\.?000\\.?000-?00).)*$")
-@Pattern(regexp = "^(?:(?!111\\.?111\\.?111-?11).)*$")
-@Pattern(regexp = "^(?:(?!222\\.?222\\.?222-?22).)*$")
-@Pattern(regexp = "^(?:(?!333\\.?333\\.?333-?33).)*$")
-@Pattern(regexp = "^(?:(?!444\\.?444\\.?444-?44).)*$")
-@Pattern(regexp = "^(?:(?!555\\.?555\\.?555-?55).)*$")
-@Pattern(regexp = "^(?:(?!666\\.?666\\.?666-?66).)*$")
-@Pattern(regexp = "^(?:(?!777\\.?777\\.?777-?77).)*$")
-@Pattern(regexp = "^(?:(?!888\\.?888\\.?888-?88).)*$")
-@Pattern(regexp = "^(?:(?!999\\.?999\\.?999-?99).)*$")
 @Documented
 @Constraint(validatedBy = {CpfOrCnpjValidator.class})
 @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.configuration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ApplicationContextProviderTest {
+
+    private final Map<String, Object> properties = new HashMap<>();
+
+    private final ApplicationContextProvider applicationContextProvider = new ApplicationContextProvider();
+
+    @AfterEach
+    void tearDown() {
+        ApplicationContextProvider.Companion.clearPropertySnapshot();
+    }
+
+    @Test
+    void shouldKeepTheCachedPropertyUntilTheEnvironmentChanges() {
+        setUpContext();
+
+        assertThat(ApplicationContextProvider.Companion.getCachedProperty("cached.value", Integer.class))
+            .isEqualTo(1);
+        properties.put("cached.value", "2");
+        assertThat(ApplicationContextProvider.Companion.getCachedProperty("cached.value", Integer.class))
+            .isEqualTo(1);
+
+        applicationContextProvider.onApplicationEvent(new EnvironmentChangeEvent(Set.of("cached.value")));
+
+        assertThat(ApplicationContextProvider.Companion.getCachedProperty("cached.value", Integer.class))
+            .isEqualTo(2);
+    }
+
+    @Test
+    void shouldClearTheCachedPropertiesWhenTheRefreshScopeIsRefreshed() {
+        setUpContext();
+
+        assertThat(ApplicationContextProvider.Companion.getCachedProperty("cached.name", String.class, "default"))
+            .isEqualTo("first");
+        properties.put("cached.name", "second");
+
+        applicationContextProvider.onApplicationEvent(new RefreshScopeRefreshedEvent());
+
+        assertThat(ApplicationContextProvider.Companion.getCachedProperty("cached.name", String.class, "default"))
+            .isEqualTo("second");
+    }
+
+    @Test
+    void shouldCacheTheMissingProperties() {
+        setUpContext();
+
+        assertThat(ApplicationContextProvider.Companion.getCachedProperty("cached.missing", String.class, "default"))
+            .isEqualTo("default");
+        properties.put("cached.missing", "present");
+        assertThat(ApplicationContextProvider.Companion.getCachedProperty("cached.missing", String.class, "default"))
+            .isEqualTo("default");
+    }
+
+    @Test
+    void shouldOnlySupportTheEnvironmentChangeEvents() {
+        assertThat(applicationContextProvider.supportsEventType(EnvironmentChangeEvent.class)).isTrue();
+        assertThat(applicationContextProvider.supportsEventType(RefreshScopeRefreshedEvent.class)).isTrue();
+        assertThat(applicationContextProvider.supportsEventType(ContextRefreshedEvent.class)).isFalse();
+    }
+
+    private void setUpContext() {
+        properties.put("cached.value", "1");
+        properties.put("cached.name", "first");
+        GenericApplicationContext applicationContext = new GenericApplicationContext();
+        applicationContext.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        applicationContextProvider.setApplicationContext(applicationContext);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledResourceBundleMessageSourceTest {
+
+    private static final Locale PT_BR = Locale.of("pt", "BR");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldResolveMessagesWithTheSamePrecedenceAsSpring() throws IOException {
+        Files.writeString(directory.resolve("messages.properties"), "a=default a\nb=default b\nc=default {0}\n");
+        Files.writeString(directory.resolve("messages_pt.properties"), "b=pt b\n");
+        Files.writeString(directory.resolve("messages_pt_BR.properties"), "a=pt_BR a\n");
+        Files.writeString(directory.resolve("overrides.properties"), "b=override b\n");
+
+        CompiledResourceBundleMessageSource source = newSource(false);
+        assertThat(source.getMessage("a", null, PT_BR)).isEqualTo("pt_BR a");
+        assertThat(source.getMessage("b", null, PT_BR)).isEqualTo("override b");
+        assertThat(source.getMessage("c", new Object[]{42}, PT_BR)).isEqualTo("default 42");
+        assertThat(source.getMessage("d", null, "missing", PT_BR)).isEqualTo("missing");
+    }
+
+    @Test
+    void shouldFormatTheMessagesWithArgumentsConcurrently() throws Exception {
+        Files.writeString(directory.resolve("messages.properties"), "total=Total of {0,number,integer} for {1}\n");
+        CompiledResourceBundleMessageSource source = newSource(false);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Boolean>> results = IntStream.range(0, 1_000)
+                .mapToObj(i -> executor.submit(() ->
+                    source.getMessage("total", new Object[]{i, "user" + i}, Locale.ENGLISH)
+                        .equals("Total of " + i + " for user" + i)
+                ))
+                .toList();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void shouldReloadWhenTheFilesChange() throws Exception {
+        Path file = directory.resolve("messages.properties");
+        Files.writeString(file, "a=before\n");
+
+        CompiledResourceBundleMessageSource source = newSource(true);
+        try {
+            assertThat(source.getMessage("a", null, PT_BR)).isEqualTo("before");
+
+            Files.writeString(file, "a=after\n");
+            long deadline = System.currentTimeMillis() + 15_000;
+            while (!"after".equals(source.getMessage("a", null, PT_BR)) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(source.getMessage("a", null, PT_BR)).isEqualTo("after");
+        } finally {
+            source.destroy();
+        }
+    }
+
+    @Test
+    void shouldResolveMessagesFromTheCompiledBundles() throws IOException {
+        Path i18n = Files.createDirectories(directory.resolve("i18n"));
+        Files.writeString(i18n.resolve("messages.properties"), "a=default a\nb=default b\n");
+        Files.writeString(i18n.resolve("messages_pt_BR.properties"), "a=pt_BR a\n");
+
+        String location = i18n.toUri().toString();
+        CompiledMessageBundles bundles = new CompiledMessageBundlesGenerator(
+            new PathMatchingResourcePatternResolver(), StandardCharsets.ISO_8859_1).generate(List.of(location));
+        Path compiled = directory.resolve("i18n-bundles.bin");
+        try (OutputStream outputStream = Files.newOutputStream(compiled)) {
+            bundles.write(outputStream);
+        }
+        // From now on, the messages can only come from the compiled bundles.
+        Files.writeString(i18n.resolve("messages.properties"), "a=changed a\n");
+
+        CompiledResourceBundleMessageSource source = new CompiledResourceBundleMessageSource();
+        source.setFallbackToSystemLocale(false);
+        source.setWatchFiles(false);
+        source.setCompiledBundlesLocation(compiled.toUri().toString());
+        source.setBasenames(location + "messages");
+        // The compiled bundles are opt-in.
+        assertThat(source.getMessage("a", null, Locale.ENGLISH)).isEqualTo("changed a");
+
+        source.setUseCompiledBundles(true);
+        source.clearCache();
+        assertThat(source.getMessage("a", null, PT_BR)).isEqualTo("pt_BR a");
+        assertThat(source.getMessage("b", null, PT_BR)).isEqualTo("default b");
+        assertThat(source.getMessage("a", null, Locale.ENGLISH)).isEqualTo("default a");
+    }
+
+    private CompiledResourceBundleMessageSource newSource(boolean watchFiles) {
+        CompiledResourceBundleMessageSource source = new CompiledResourceBundleMessageSource();
+        source.setFallbackToSystemLocale(false);
+        source.setWatchFiles(watchFiles);
+        source.setBasenames(
+            directory.resolve("overrides").toUri().toString(),
+            directory.resolve("messages").toUri().toString()
+        );
+        return source;
+    }
+}
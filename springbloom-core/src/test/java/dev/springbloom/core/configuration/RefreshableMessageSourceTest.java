@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.HierarchicalMessageSource;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RefreshableMessageSourceTest {
+
+    @Test
+    void shouldSwapTheDelegateAndKeepTheParentOnRefresh() {
+        AtomicInteger version = new AtomicInteger();
+        RefreshableMessageSource messageSource = new RefreshableMessageSource(() -> {
+            StaticMessageSource source = new StaticMessageSource();
+            source.addMessage("version", Locale.ENGLISH, "v" + version.incrementAndGet());
+            return source;
+        });
+        StaticMessageSource parent = new StaticMessageSource();
+        parent.addMessage("parent", Locale.ENGLISH, "from parent");
+        messageSource.setParentMessageSource(parent);
+
+        assertThat(messageSource.getMessage("version", null, Locale.ENGLISH)).isEqualTo("v1");
+
+        messageSource.refresh();
+
+        assertThat(messageSource.getMessage("version", null, Locale.ENGLISH)).isEqualTo("v2");
+        assertThat(messageSource.getMessage("parent", null, Locale.ENGLISH)).isEqualTo("from parent");
+        assertThat(((HierarchicalMessageSource) messageSource.getDelegate()).getParentMessageSource()).isSameAs(parent);
+    }
+
+    @Test
+    void shouldDestroyThePreviousDelegateOnlyAfterTheDelay() throws InterruptedException {
+        AtomicInteger destroyed = new AtomicInteger();
+        RefreshableMessageSource messageSource =
+            new RefreshableMessageSource(() -> new DisposableMessageSource(destroyed));
+        messageSource.setDestroyDelay(Duration.ofMillis(200));
+        MessageSource previousDelegate = messageSource.getDelegate();
+
+        messageSource.refresh();
+
+        assertThat(messageSource.getDelegate()).isNotSameAs(previousDelegate);
+        assertThat(destroyed).hasValue(0);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (destroyed.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(destroyed).hasValue(1);
+    }
+
+    @Test
+    void shouldDestroyThePreviousDelegatesOnShutdown() {
+        AtomicInteger destroyed = new AtomicInteger();
+        RefreshableMessageSource messageSource =
+            new RefreshableMessageSource(() -> new DisposableMessageSource(destroyed));
+
+        messageSource.refresh();
+        messageSource.refresh();
+        messageSource.destroy();
+
+        assertThat(destroyed).hasValue(3);
+    }
+
+    private static class DisposableMessageSource extends StaticMessageSource implements DisposableBean {
+
+        private final AtomicInteger destroyed;
+
+        DisposableMessageSource(AtomicInteger destroyed) {
+            this.destroyed = destroyed;
+        }
+
+        @Override
+        public void destroy() {
+            destroyed.incrementAndGet();
+        }
+    }
+}
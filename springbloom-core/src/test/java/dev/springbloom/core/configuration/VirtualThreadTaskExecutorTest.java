@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.configuration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VirtualThreadTaskExecutorTest {
+
+    @Test
+    void shouldNotRunMoreTasksThanTheConcurrencyLimit() throws Exception {
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("test", 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            futures.add(executor.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(10);
+                return running.decrementAndGet();
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(maxRunning.get()).isBetween(1, 2);
+        assertThat(executor.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDecorateTheTasksInTheSubmittingThread() throws Exception {
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("test", 0);
+        ThreadLocal<String> context = ThreadLocal.withInitial(() -> "none");
+        executor.setTaskDecorator(runnable -> {
+            String value = context.get();
+            return () -> {
+                context.set(value);
+                runnable.run();
+            };
+        });
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> values = new ArrayList<>();
+
+        context.set("request");
+        executor.execute(() -> {
+            values.add(context.get() + "@" + Thread.currentThread().isVirtual());
+            latch.countDown();
+        });
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(values).containsExactly("request@true");
+    }
+}
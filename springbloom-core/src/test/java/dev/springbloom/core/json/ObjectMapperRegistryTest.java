@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ObjectMapperRegistryTest {
+
+    record Event(String name, LocalDate date) {
+    }
+
+    @Test
+    void shouldShareTheReadersAndWritersOfEachType() {
+        ObjectMapperRegistry registry = ObjectMapperRegistry.getDefault();
+
+        assertThat(registry.reader(Event.class)).isSameAs(registry.reader(Event.class));
+        assertThat(registry.writer(Event.class)).isSameAs(registry.writer(Event.class));
+        assertThat(registry.reader(new TypeReference<List<Event>>() {
+        })).isSameAs(registry.reader(new TypeReference<List<Event>>() {
+        }));
+    }
+
+    @Test
+    void shouldSerializeJavaTimeTypes() throws IOException {
+        ObjectMapperRegistry registry = new ObjectMapperRegistry(ObjectMapperRegistry.createObjectMapper())
+            .warmUp(Event.class);
+        Event event = new Event("release", LocalDate.of(2025, 1, 31));
+
+        String json = registry.writer(Event.class).writeValueAsString(event);
+
+        assertThat(registry.reader(Event.class).<Event>readValue(json)).isEqualTo(event);
+        assertThat(registry.reader(new TypeReference<Map<String, Object>>() {
+        }).<Map<String, Object>>readValue(json)).containsEntry("name", "release");
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.mapper;
+
+import dev.springbloom.core.exception.IllegalArgumentApplicationException;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration;
+import org.modelmapper.convention.MatchingStrategies;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CompiledMapperTest {
+
+    enum Kind {PERSON, COMPANY}
+
+    static class Address {
+        private String street = "Main Street";
+        private int number = 5;
+    }
+
+    static class Customer {
+        private String firstName = "Ann";
+        private String last_name = "Smith";
+        private String URLValue = "https://example.com";
+        private String address2 = "Apartment 12";
+        private Address address = new Address();
+        private List<Address> previousAddresses = List.of(new Address());
+        private Integer age = 42;
+        private String kind = "PERSON";
+        private String unmatched = "ignored";
+    }
+
+    static class AddressDTO {
+        private String street;
+        private long number;
+    }
+
+    static class CustomerDTO {
+        private String firstName;
+        private String lastName;
+        private String urlValue;
+        private String address2;
+        private String addressStreet;
+        private List<AddressDTO> previousAddresses;
+        private long age;
+        private Kind kind;
+        private String other = "kept";
+    }
+
+    /// Configured as in the DefaultAutoConfiguration.
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    {
+        modelMapper.getConfiguration()
+            .setFieldMatchingEnabled(true)
+            .setFieldAccessLevel(Configuration.AccessLevel.PRIVATE)
+            .setMatchingStrategy(MatchingStrategies.STRICT);
+    }
+
+    @Test
+    void shouldMapMatchingAndNestedProperties() {
+        CustomerDTO customer = new CompiledMapper().map(new Customer(), CustomerDTO.class);
+
+        assertThat(customer.firstName).isEqualTo("Ann");
+        assertThat(customer.lastName).isNull();
+        assertThat(customer.urlValue).isEqualTo("https://example.com");
+        assertThat(customer.address2).isEqualTo("Apartment 12");
+        assertThat(customer.addressStreet).isEqualTo("Main Street");
+        assertThat(customer.previousAddresses).singleElement()
+            .satisfies(address -> assertThat(address.street).isEqualTo("Main Street"))
+            .satisfies(address -> assertThat(address.number).isEqualTo(5L));
+        assertThat(customer.age).isEqualTo(42L);
+        assertThat(customer.kind).isEqualTo(Kind.PERSON);
+        assertThat(customer.other).isEqualTo("kept");
+    }
+
+    @Test
+    void shouldMapTheSamePropertiesAsTheModelMapper() {
+        Customer source = new Customer();
+
+        assertThat(new CompiledMapper().map(source, CustomerDTO.class))
+            .usingRecursiveComparison()
+            .isEqualTo(modelMapper.map(source, CustomerDTO.class));
+    }
+
+    @Test
+    void shouldTokenizePropertyNamesAsTheModelMapper() {
+        assertThat(CompiledMapper.tokens("URLValue")).containsExactly("url", "value");
+        assertThat(CompiledMapper.tokens("address2")).containsExactly("address", "2");
+        assertThat(CompiledMapper.tokens("first_name")).containsExactly("first", "_name");
+        assertThat(CompiledMapper.tokens("previousAddresses")).containsExactly("previous", "addresses");
+    }
+
+    @Test
+    void shouldSkipNullNestedSources() {
+        Customer source = new Customer();
+        source.address = null;
+        CustomerDTO destination = new CustomerDTO();
+        destination.addressStreet = "Old Street";
+
+        new CompiledMapper().register(Customer.class, CustomerDTO.class).map(source, destination);
+
+        assertThat(destination.addressStreet).isEqualTo("Old Street");
+        assertThat(destination.firstName).isEqualTo("Ann");
+    }
+
+    @Test
+    void shouldRejectNullSources() {
+        assertThatThrownBy(() -> new CompiledMapper().map(null, CustomerDTO.class))
+            .isInstanceOf(IllegalArgumentApplicationException.class);
+    }
+}
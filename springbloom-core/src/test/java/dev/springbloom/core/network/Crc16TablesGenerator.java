@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Generates the {@link Crc16Tables} source file, with the lookup tables of the {@link Crc16} catalog.
+ * It runs during the build with: {@code mvn -P generate-crc-tables process-test-classes}.
+ */
+public class Crc16TablesGenerator {
+
+    public static void main(String[] args) throws IOException, IllegalAccessException {
+        Path target = Path.of(args[0]);
+        Files.writeString(target, generate(Files.readString(target)), StandardCharsets.UTF_8);
+    }
+
+    static String generate(String currentSource) throws IllegalAccessException {
+        // Tables depend only on the polynomial and on the reflection, so they are shared between algorithms.
+        Map<Integer, long[]> tables = new TreeMap<>();
+        for (Field field : Crc16.class.getFields()) {
+            CrcAlgorithm crcAlgorithm = (CrcAlgorithm) field.get(null);
+            if (crcAlgorithm.refIn == crcAlgorithm.refOut) {
+                tables.computeIfAbsent(key(crcAlgorithm.poly, crcAlgorithm.refIn),
+                    key -> new CrcCalculator(crcAlgorithm, CrcCalculator.Engine.BYTE_BY_BYTE).getTable());
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        // Keeps the license header of the current file.
+        source.append(currentSource, 0, currentSource.indexOf("package "));
+        source.append("""
+            package dev.springbloom.core.network;
+
+            /**
+             * Lookup tables of the {@link Crc16} catalog, encoded as one char per entry.
+             * <p>
+             * <b>Generated by {@code Crc16TablesGenerator}, do not edit.</b>
+             */
+            final class Crc16Tables {
+
+            """);
+        for (Map.Entry<Integer, long[]> entry : tables.entrySet()) {
+            source.append("    private static final String ").append(constantName(entry.getKey())).append(" =\n");
+            long[] table = entry.getValue();
+            for (int line = 0; line < table.length; line += 16) {
+                source.append(line == 0 ? "        \"" : "        + \"");
+                for (int i = line; i < line + 16; i++) {
+                    source.append(escape((char) table[i]));
+                }
+                source.append(line + 16 < table.length ? "\"\n" : "\";\n\n");
+            }
+        }
+        source.append("""
+                private Crc16Tables() {
+                }
+
+                /**
+                 * Returns a new copy of the lookup table, or {@code null} if it was not generated.
+                 */
+                static long[] find(CrcParameters parameters) {
+                    if (parameters.hashSize() != 16 || parameters.refIn() != parameters.refOut()) {
+                        return null;
+                    }
+
+                    String table = switch ((int) parameters.poly() | (parameters.refIn() ? 0x10000 : 0)) {
+            """);
+        for (Integer key : tables.keySet()) {
+            source.append(String.format("            case 0x%05X -> %s;%n", key, constantName(key)));
+        }
+        source.append("""
+                        default -> null;
+                    };
+                    if (table == null) {
+                        return null;
+                    }
+
+                    long[] result = new long[table.length()];
+                    for (int i = 0; i < result.length; i++) {
+                        result[i] = table.charAt(i);
+                    }
+                    return result;
+                }
+            }
+            """);
+        return source.toString();
+    }
+
+    static int key(long poly, boolean reflected) {
+        return (int) poly | (reflected ? 0x10000 : 0);
+    }
+
+    private static String constantName(int key) {
+        return String.format("POLY_%04X%s", key & 0xFFFF, (key & 0x10000) != 0 ? "_REFLECTED" : "");
+    }
+
+    private static String escape(char value) {
+        // Unicode escapes are translated before the lexical analysis, so they cannot be used for these ones.
+        return switch (value) {
+            case '\n' -> "\\n";
+            case '\r' -> "\\r";
+            case '"' -> "\\\"";
+            case '\\' -> "\\\\";
+            default -> String.format("\\u%04X", (int) value);
+        };
+    }
+}
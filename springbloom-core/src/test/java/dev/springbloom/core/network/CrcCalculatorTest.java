@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class CrcCalculatorTest {
+
+    private static final byte[] CHECK_INPUT = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+    static Stream<CrcAlgorithm> catalog() {
+        return Stream.of(Crc16.class, Crc32.class, Crc64.class)
+            .flatMap(catalog -> Arrays.stream(catalog.getFields()))
+            .filter(field -> field.getType() == CrcAlgorithm.class)
+            .map(CrcCalculatorTest::readAlgorithm);
+    }
+
+    @ParameterizedTest
+    @MethodSource("catalog")
+    void shouldMatchCheckValueWithEveryEngine(CrcAlgorithm crcAlgorithm) {
+        assertThat(new CrcCalculator(crcAlgorithm).calc(CHECK_INPUT, 0, CHECK_INPUT.length))
+            .as(crcAlgorithm.getName())
+            .isEqualTo(crcAlgorithm.getCheck());
+
+        for (CrcCalculator.Engine engine : CrcCalculator.Engine.values()) {
+            CrcCalculator calculator = new CrcCalculator(crcAlgorithm, engine);
+            assertThat(calculator.calc(CHECK_INPUT, 0, CHECK_INPUT.length))
+                .as("%s (%s)", crcAlgorithm.getName(), engine)
+                .isEqualTo(crcAlgorithm.getCheck());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("catalog")
+    void shouldMatchByteByByteEngineOnUnalignedInputs(CrcAlgorithm crcAlgorithm) {
+        byte[] data = new byte[4096];
+        new Random(crcAlgorithm.getName().hashCode()).nextBytes(data);
+
+        CrcCalculator reference = new CrcCalculator(crcAlgorithm, CrcCalculator.Engine.BYTE_BY_BYTE);
+        CrcCalculator slicingBy8 = new CrcCalculator(crcAlgorithm, CrcCalculator.Engine.SLICING_BY_8);
+        CrcCalculator slicingBy16 = new CrcCalculator(crcAlgorithm, CrcCalculator.Engine.SLICING_BY_16);
+        for (int offset = 0; offset < 16; offset++) {
+            for (int length : new int[]{0, 1, 7, 8, 9, 15, 16, 17, 33, 255, 4000}) {
+                long expected = reference.calc(data, offset, length);
+                assertThat(slicingBy8.calc(data, offset, length)).isEqualTo(expected);
+                assertThat(slicingBy16.calc(data, offset, length)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void shouldIgnoreChangesToTheAlgorithmAfterBeingCreated() {
+        CrcAlgorithm crcAlgorithm = new CrcAlgorithm("CRC-16/MODBUS-COPY", 16, 0x8005, 0xFFFF, true, true, 0x0,
+            0x4B37);
+        CrcCalculator calculator = new CrcCalculator(crcAlgorithm, CrcCalculator.Engine.SLICING_BY_16);
+
+        crcAlgorithm.setInit(0x0);
+        crcAlgorithm.setRefOut(false);
+        crcAlgorithm.setXorOut(0xFFFF);
+
+        assertThat(calculator.calc(CHECK_INPUT, 0, CHECK_INPUT.length)).isEqualTo(0x4B37);
+        assertThat(calculator.finalValue(calculator.update(calculator.initialValue(), CHECK_INPUT, 0, 9)))
+            .isEqualTo(0x4B37);
+    }
+
+    @Test
+    void shouldDispatchToJdkIntrinsicsOnlyForMatchingAlgorithms() {
+        assertThat(new CrcCalculator(Crc32.Crc32).isIntrinsic()).isTrue();
+        assertThat(new CrcCalculator(Crc32.Crc32C).isIntrinsic()).isTrue();
+        assertThat(new CrcCalculator(Crc32.Crc32Bzip2).isIntrinsic()).isFalse();
+        assertThat(new CrcCalculator(Crc32.Crc32Jamcrc).isIntrinsic()).isFalse();
+        assertThat(new CrcCalculator(Crc32.Crc32, CrcCalculator.Engine.SLICING_BY_8).isIntrinsic()).isFalse();
+
+        byte[] data = new byte[10_000];
+        new Random(32).nextBytes(data);
+        assertThat(new CrcCalculator(Crc32.Crc32).calc(data, 1, 9_999))
+            .isEqualTo(new CrcCalculator(Crc32.Crc32, CrcCalculator.Engine.BYTE_BY_BYTE).calc(data, 1, 9_999));
+        assertThat(new CrcCalculator(Crc32.Crc32C).calc(data, 1, 9_999))
+            .isEqualTo(new CrcCalculator(Crc32.Crc32C, CrcCalculator.Engine.BYTE_BY_BYTE).calc(data, 1, 9_999));
+    }
+
+    @ParameterizedTest
+    @MethodSource("catalog")
+    void shouldMatchSingleCallWhenFedIncrementally(CrcAlgorithm crcAlgorithm) throws IOException {
+        byte[] data = new byte[10_000];
+        new Random(crcAlgorithm.getName().hashCode()).nextBytes(data);
+
+        CrcCalculator calculator = new CrcCalculator(crcAlgorithm);
+        long expected = calculator.calc(data, 0, data.length);
+
+        CrcSession session = calculator.newSession();
+        session.update(data, 0, 100);
+        session.update(data[100]);
+        session.update(ByteBuffer.wrap(data, 101, 1000));
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length - 1101).order(ByteOrder.LITTLE_ENDIAN);
+        direct.put(data, 1101, data.length - 1101).flip();
+        session.update(direct);
+        assertThat(session.getLength()).isEqualTo(data.length);
+        assertThat(session.finish()).isEqualTo(expected);
+
+        session.update(Channels.newChannel(new ByteArrayInputStream(data)));
+        assertThat(session.finish()).isEqualTo(expected);
+
+        try (CrcInputStream input = new CrcInputStream(new ByteArrayInputStream(data), calculator)) {
+            input.readAllBytes();
+            assertThat(input.getCrc()).isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("catalog")
+    void shouldMatchSequentialCalcWhenCombiningChunks(CrcAlgorithm crcAlgorithm) {
+        byte[] data = new byte[100_003];
+        new Random(crcAlgorithm.getName().hashCode()).nextBytes(data);
+
+        CrcCalculator calculator = new CrcCalculator(crcAlgorithm);
+        long expected = calculator.calc(data, 3, 100_000);
+        assertThat(calculator.combine(calculator.calc(data, 3, 40_000), calculator.calc(data, 40_003, 60_000), 60_000))
+            .isEqualTo(expected);
+
+        ParallelCrcCalculator parallel = new ParallelCrcCalculator(calculator, ForkJoinPool.commonPool(), 1_000);
+        assertThat(parallel.calc(data, 3, 100_000)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("catalog")
+    void shouldMatchByteByByteEngineWithVectorEngine(CrcAlgorithm crcAlgorithm) {
+        // Only with the vector-crc profile, which enables the engine for the tests.
+        assumeTrue(CrcCalculator.isVectorEngineAvailable());
+
+        byte[] data = new byte[100_003];
+        new Random(crcAlgorithm.getName().hashCode()).nextBytes(data);
+
+        CrcCalculator calculator = new CrcCalculator(crcAlgorithm, CrcCalculator.Engine.SLICING_BY_16);
+        LaneCrcEngine vectorEngine = calculator.vectorEngine();
+        int vectorLength = vectorEngine.alignedLength(data.length - 3);
+        long crc = vectorEngine.update(calculator.initialValue(), data, 3, vectorLength);
+        crc = calculator.update(crc, data, 3 + vectorLength, data.length - 3 - vectorLength);
+
+        assertThat(calculator.finalValue(crc))
+            .isEqualTo(new CrcCalculator(crcAlgorithm, CrcCalculator.Engine.BYTE_BY_BYTE).calc(data, 3, data.length - 3));
+    }
+
+    @ParameterizedTest
+    @MethodSource("catalog")
+    void shouldShareCalculatorsFromRegistry(CrcAlgorithm crcAlgorithm) {
+        CrcCalculator calculator = CrcCalculatorRegistry.get(crcAlgorithm);
+        assertThat(CrcCalculatorRegistry.get(crcAlgorithm)).isSameAs(calculator);
+        assertThat(calculator.calc(CHECK_INPUT, 0, CHECK_INPUT.length)).isEqualTo(crcAlgorithm.getCheck());
+    }
+
+    @Test
+    void shouldMatchTablesGeneratedAtBuildTime() throws IllegalAccessException {
+        for (Field field : Crc16.class.getFields()) {
+            CrcAlgorithm crcAlgorithm = (CrcAlgorithm) field.get(null);
+            assertThat(Crc16Tables.find(CrcParameters.of(crcAlgorithm)))
+                .as("%s (regenerate with: mvn -P generate-crc-tables process-test-classes)", crcAlgorithm.getName())
+                .containsExactly(new CrcCalculator(crcAlgorithm, CrcCalculator.Engine.BYTE_BY_BYTE).getTable());
+        }
+    }
+
+    private static CrcAlgorithm readAlgorithm(Field field) {
+        try {
+            return (CrcAlgorithm) field.get(null);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CrcFrameCodecTest {
+
+    @Test
+    void shouldDecodeFramesReceivedInArbitraryChunks() throws IOException {
+        CrcFrameCodec codec = new CrcFrameCodec(Crc32.Crc32C, 100_000);
+        Random random = new Random(42);
+        List<byte[]> payloads = new ArrayList<>();
+        ByteBuffer stream = ByteBuffer.allocate(8 * 1024 * 1024);
+        ByteBuffer headers = ByteBuffer.allocateDirect(codec.getOverhead());
+        for (int i = 0; i < 500; i++) {
+            byte[] payload = new byte[random.nextInt(i % 50 == 0 ? 100_000 : 100)];
+            random.nextBytes(payload);
+            payloads.add(payload);
+            if (i % 2 == 0) {
+                codec.encode(ByteBuffer.wrap(payload), stream);
+            } else {
+                headers.clear();
+                for (ByteBuffer buffer : codec.frames(headers, ByteBuffer.wrap(payload))) {
+                    stream.put(buffer);
+                }
+            }
+        }
+        stream.flip();
+
+        List<byte[]> decoded = new ArrayList<>();
+        try (CrcFrameReader reader = new CrcFrameReader(codec, new DirectBufferPool(4), 1024)) {
+            ReadableByteChannel channel = chunkedChannel(stream, random);
+            while (reader.read(channel, payload -> {
+                byte[] bytes = new byte[payload.remaining()];
+                payload.get(bytes);
+                decoded.add(bytes);
+            }) >= 0) {
+                // Reads until the end of the stream.
+            }
+        }
+        assertThat(decoded).containsExactlyElementsOf(payloads);
+    }
+
+    @Test
+    void shouldRejectPayloadsLargerThanThePooledBuffers() {
+        CrcFrameCodec codec = new CrcFrameCodec(Crc64.Crc64, CrcFrameCodec.MAX_PAYLOAD_LENGTH);
+        assertThat(codec.getMaxFrameLength()).isLessThanOrEqualTo(DirectBufferPool.MAX_CAPACITY);
+
+        assertThatThrownBy(() -> new CrcFrameCodec(Crc32.Crc32C, CrcFrameCodec.MAX_PAYLOAD_LENGTH + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldDetectCorruptedFrames() throws IOException {
+        CrcFrameCodec codec = new CrcFrameCodec(Crc16.Crc16Xmodem, 1024);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        codec.encode(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5}), buffer);
+        buffer.flip();
+        assertThat(buffer.remaining()).isEqualTo(5 + codec.getOverhead());
+
+        ByteBuffer partial = buffer.duplicate().limit(buffer.limit() - 1);
+        assertThat(codec.decode(partial)).isNull();
+        assertThat(partial.position()).isZero();
+        assertThat(codec.decode(buffer.duplicate())).isEqualTo(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5}));
+
+        buffer.put(6, (byte) (buffer.get(6) ^ 0x10));
+        assertThatThrownBy(() -> codec.decode(buffer.duplicate()))
+            .isInstanceOf(CorruptedFrameException.class)
+            .hasMessageStartingWith("CRC mismatch");
+
+        buffer.putInt(0, 1025);
+        assertThatThrownBy(() -> codec.decode(buffer.duplicate()))
+            .isInstanceOf(CorruptedFrameException.class)
+            .hasMessage("Invalid frame length: 1025");
+    }
+
+    private static ReadableByteChannel chunkedChannel(ByteBuffer source, Random random) {
+        return new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer target) {
+                if (!source.hasRemaining()) {
+                    return -1;
+                }
+                int length = Math.min(Math.min(source.remaining(), target.remaining()), random.nextInt(5000));
+                target.put(source.slice(source.position(), length));
+                source.position(source.position() + length);
+                return length;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
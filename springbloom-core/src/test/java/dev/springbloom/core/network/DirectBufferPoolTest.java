@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DirectBufferPoolTest {
+
+    @Test
+    void shouldReuseReleasedBuffersOfTheSameCapacity() {
+        DirectBufferPool pool = new DirectBufferPool(2);
+        ByteBuffer buffer = pool.acquire(1000);
+        assertThat(buffer.isDirect()).isTrue();
+        assertThat(buffer.capacity()).isEqualTo(1024);
+
+        buffer.put((byte) 1);
+        pool.release(buffer);
+        assertThat(pool.getPooledBytes()).isEqualTo(1024);
+
+        ByteBuffer reused = pool.acquire(1024);
+        assertThat(reused).isSameAs(buffer);
+        assertThat(reused.position()).isZero();
+        assertThat(pool.getPooledBytes()).isZero();
+    }
+
+    @Test
+    void shouldDropReleasedBuffersBeyondTheLimits() {
+        DirectBufferPool pool = new DirectBufferPool(2, 4096);
+        ByteBuffer first = pool.acquire(1024);
+        ByteBuffer second = pool.acquire(1024);
+        ByteBuffer third = pool.acquire(1024);
+        ByteBuffer large = pool.acquire(4096);
+
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+        assertThat(pool.getPooledBytes()).isEqualTo(2048);
+
+        pool.release(large);
+        assertThat(pool.getPooledBytes()).isEqualTo(2048);
+        assertThat(pool.acquire(4096)).isNotSameAs(large);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HashSlotPartitionerTest {
+
+    @Test
+    void shouldComputeSameSlotsAsRedisCluster() {
+        assertThat(HashSlotPartitioner.slot("123456789")).isEqualTo(0x31C3);
+        assertThat(HashSlotPartitioner.slot("foo")).isEqualTo(12182);
+        assertThat(HashSlotPartitioner.slot("{user1000}.following"))
+            .isEqualTo(HashSlotPartitioner.slot("{user1000}.followers"))
+            .isEqualTo(HashSlotPartitioner.slot("user1000"));
+        assertThat(HashSlotPartitioner.slot("foo{}{bar}")).isNotEqualTo(HashSlotPartitioner.slot("bar"));
+        assertThat(HashSlotPartitioner.slot("foo{{bar}}zap")).isEqualTo(HashSlotPartitioner.slot("{bar"));
+        assertThat(HashSlotPartitioner.slot("foo{bar}{zap}")).isEqualTo(HashSlotPartitioner.slot("bar"));
+    }
+
+    @Test
+    void shouldComputeSameSlotForStringsBytesAndUuids() {
+        for (String key : List.of("", "ação", "{tenant-é}:42", "emoji 😀", "broken \uD800 pair", "日本語{キー}")) {
+            assertThat(HashSlotPartitioner.slot(key))
+                .as(key)
+                .isEqualTo(HashSlotPartitioner.slot(key.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            assertThat(HashSlotPartitioner.slot(uuid)).isEqualTo(HashSlotPartitioner.slot(uuid.toString()));
+        }
+    }
+
+    @Test
+    void shouldRebalanceMovingOnlyTheNeededSlots() {
+        HashSlotPartitioner<String> partitioner = HashSlotPartitioner.of(List.of("a", "b", "c"));
+        assertThat(partitioner.nodeForSlot(0)).isEqualTo("a");
+        assertThat(partitioner.nodeForSlot(HashSlotPartitioner.SLOT_COUNT - 1)).isEqualTo("c");
+
+        HashSlotPartitioner.RebalancePlan<String> plan = partitioner.rebalance(List.of("a", "b", "c", "d"));
+        assertThat(plan.movedSlots()).isEqualTo(HashSlotPartitioner.SLOT_COUNT / 4);
+        assertThat(plan.migrations()).allSatisfy(migration -> assertThat(migration.target()).isEqualTo("d"));
+        assertThat(countSlots(plan.target(), "d")).isEqualTo(HashSlotPartitioner.SLOT_COUNT / 4);
+
+        HashSlotPartitioner.RebalancePlan<String> removal = plan.target().rebalance(List.of("a", "c", "d"));
+        assertThat(removal.migrations()).allSatisfy(migration -> assertThat(migration.source()).isEqualTo("b"));
+        assertThat(removal.target().getNodes()).containsExactly("a", "c", "d");
+        assertThat(plan.target().rebalance(List.of("a", "b", "c", "d")).migrations()).isEmpty();
+    }
+
+    private static int countSlots(HashSlotPartitioner<String> partitioner, String node) {
+        int count = 0;
+        for (int slot = 0; slot < HashSlotPartitioner.SLOT_COUNT; slot++) {
+            if (node.equals(partitioner.nodeForSlot(slot))) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.template;
+
+import dev.springbloom.core.exception.ApplicationException;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import java.io.StringWriter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BatchTemplateRendererTest {
+
+    private static final String TEMPLATE = "Hello [[${name}]]!";
+
+    @Test
+    void shouldRenderEachContext() {
+        BatchTemplateRenderer renderer = new BatchTemplateRenderer(newEngine(), 4);
+        Map<String, String> results = new ConcurrentHashMap<>();
+
+        long count = renderer.render(TEMPLATE, contexts(1000),
+            (context, content) -> results.put((String) context.getVariable("name"), content));
+
+        assertThat(count).isEqualTo(1000);
+        assertThat(results).hasSize(1000).containsEntry("n42", "Hello n42!");
+    }
+
+    @Test
+    void shouldRenderEachContextIntoItsWriter() {
+        BatchTemplateRenderer renderer = new BatchTemplateRenderer(newEngine());
+        Map<String, StringWriter> writers = new ConcurrentHashMap<>();
+
+        renderer.renderTo(TEMPLATE, contexts(100),
+            context -> writers.computeIfAbsent((String) context.getVariable("name"), name -> new StringWriter()));
+
+        assertThat(writers).hasSize(100);
+        assertThat(writers.get("n7")).hasToString("Hello n7!");
+    }
+
+    @Test
+    void shouldStopRenderingOnTheFirstFailure() {
+        BatchTemplateRenderer renderer = new BatchTemplateRenderer(newEngine(), 2);
+
+        assertThatThrownBy(() -> renderer.render(TEMPLATE, contexts(1_000_000), (context, content) -> {
+            throw new IllegalStateException("Failure");
+        })).isInstanceOf(ApplicationException.class).hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static Stream<Context> contexts(int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            Context context = new Context(Locale.US);
+            context.setVariable("name", "n" + i);
+            return context;
+        });
+    }
+
+    private static TemplateEngine newEngine() {
+        StringTemplateResolver resolver = new StringTemplateResolver();
+        resolver.setTemplateMode(TemplateMode.TEXT);
+        resolver.setCacheable(true);
+        TemplateEngine engine = new TemplateEngine();
+        engine.setCacheManager(new ParsedTemplateCacheManager(new ParsedTemplateCache()));
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}
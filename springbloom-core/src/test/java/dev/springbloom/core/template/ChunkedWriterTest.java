@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChunkedWriterTest {
+
+    @Test
+    void shouldFlushTheOutputInChunks() throws IOException {
+        List<String> chunks = new ArrayList<>();
+        StringWriter output = new StringWriter();
+        Writer writer = new Writer() {
+            private int flushed;
+
+            @Override
+            public void write(char[] chars, int offset, int length) {
+                output.write(chars, offset, length);
+            }
+
+            @Override
+            public void flush() {
+                String content = output.toString();
+                chunks.add(content.substring(flushed));
+                flushed = content.length();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        try (ChunkedWriter chunkedWriter = new ChunkedWriter(writer, 4)) {
+            chunkedWriter.write("ab");
+            chunkedWriter.write("cd");
+            chunkedWriter.write('e');
+            chunkedWriter.write("fghij");
+            chunkedWriter.write("k");
+        }
+
+        assertThat(output).hasToString("abcdefghijk");
+        assertThat(chunks).containsExactly("abcd", "efghij", "k");
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.template;
+
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParsedTemplateCacheTest {
+
+    @Test
+    void shouldParseEachTemplateOnlyOnce() {
+        ParsedTemplateCache cache = new ParsedTemplateCache();
+        TemplateEngine engine = newEngine(cache);
+        String template = "<p th:text=\"${name}\">name</p>".repeat(20);
+
+        for (int i = 0; i < 10; i++) {
+            Context context = new Context();
+            context.setVariable("name", "n" + i);
+            assertThat(engine.process(template, context)).startsWith("<p>n" + i + "</p>");
+        }
+
+        ParsedTemplateCache.Statistics statistics = cache.getStatistics();
+        assertThat(statistics.misses()).isEqualTo(1);
+        assertThat(statistics.hits()).isEqualTo(9);
+        assertThat(statistics.parses()).isEqualTo(1);
+        assertThat(statistics.hitRate()).isEqualTo(0.9);
+        // The template is longer than a name, so it is keyed by its content hash.
+        assertThat(cache.keySet()).singleElement()
+            .satisfies(key -> assertThat(key.getTemplate()).startsWith("sha256:"));
+    }
+
+    @Test
+    void shouldEvictTheLeastRecentlyUsedTemplates() {
+        ParsedTemplateCache cache = new ParsedTemplateCache(20);
+        TemplateEngine engine = newEngine(cache);
+
+        engine.process("<p>first</p><p>first</p>", new Context());
+        engine.process("<p>second</p><p>second</p>", new Context());
+        engine.process("<p>first</p><p>first</p>", new Context());
+        for (int i = 0; i < 5; i++) {
+            engine.process("<b>" + i + "</b>", new Context());
+        }
+
+        assertThat(cache.weight()).isLessThanOrEqualTo(20);
+        assertThat(cache.getStatistics().evictions()).isPositive();
+        assertThat(cache.keySet()).noneMatch(key -> key.getTemplate().contains("second"));
+    }
+
+    @Test
+    void shouldNotTimeTheParsingOfTheTemplatesWhichAreNotCached() throws InterruptedException {
+        ParsedTemplateCache cache = new ParsedTemplateCache();
+
+        newEngine(cache, false).process("<p>not cached</p>", new Context());
+        Thread.sleep(200);
+        newEngine(cache, true).process("<p>cached</p>", new Context());
+
+        ParsedTemplateCache.Statistics statistics = cache.getStatistics();
+        assertThat(statistics.misses()).isEqualTo(2);
+        assertThat(statistics.parses()).isEqualTo(1);
+        assertThat(statistics.averageParseMillis()).isLessThan(200);
+    }
+
+    private static TemplateEngine newEngine(ParsedTemplateCache cache) {
+        return newEngine(cache, true);
+    }
+
+    private static TemplateEngine newEngine(ParsedTemplateCache cache, boolean cacheable) {
+        StringTemplateResolver resolver = new StringTemplateResolver();
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCacheable(cacheable);
+        TemplateEngine engine = new TemplateEngine();
+        engine.setCacheManager(new ParsedTemplateCacheManager(cache));
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}
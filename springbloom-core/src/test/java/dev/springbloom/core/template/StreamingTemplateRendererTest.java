@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.template;
+
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StreamingTemplateRendererTest {
+
+    private static final String TEMPLATE = "<p th:each=\"item : ${items}\" th:text=\"${item}\">item</p>";
+
+    @Test
+    void shouldRenderIntoTheWriterAndFlushItInChunks() {
+        AtomicInteger flushes = new AtomicInteger();
+        StringWriter writer = new StringWriter() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+
+        new StreamingTemplateRenderer(newEngine(), 4).render(TEMPLATE, newContext(), writer);
+
+        assertThat(writer).hasToString("<p>first</p><p>second</p><p>third</p>");
+        assertThat(flushes).hasValueGreaterThan(1);
+    }
+
+    @Test
+    void shouldRenderIntoTheOutputStreamWithTheCharset() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Context context = new Context();
+        context.setVariable("items", List.of("ação"));
+
+        new StreamingTemplateRenderer(newEngine()).render(TEMPLATE, context, outputStream, StandardCharsets.UTF_8);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("<p>ação</p>");
+    }
+
+    @Test
+    void shouldRejectANonPositiveFlushThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamingTemplateRenderer(newEngine(), 0));
+    }
+
+    private static Context newContext() {
+        Context context = new Context();
+        context.setVariable("items", List.of("first", "second", "third"));
+        return context;
+    }
+
+    private static TemplateEngine newEngine() {
+        StringTemplateResolver resolver = new StringTemplateResolver();
+        resolver.setTemplateMode(TemplateMode.HTML);
+        TemplateEngine engine = new TemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CpfCnpjValidatorTest {
+
+    private final CpfValidator cpfValidator = new CpfValidator();
+    private final CnpjValidator cnpjValidator = new CnpjValidator();
+    private final CpfOrCnpjValidator cpfOrCnpjValidator = new CpfOrCnpjValidator();
+
+    @Test
+    void shouldValidateCpfWithOrWithoutFormatting() {
+        assertThat(cpfValidator.isValid("134.241.313-00")).isTrue();
+        assertThat(cpfValidator.isValid("13424131300")).isTrue();
+        assertThat(cpfValidator.isValid(null, null)).isTrue();
+
+        assertThat(cpfValidator.isValid("134.241.313-01")).isFalse();
+        assertThat(cpfValidator.isValid("134.241.31300")).isFalse();
+        assertThat(cpfValidator.isValid("134241313-00")).isFalse();
+        assertThat(cpfValidator.isValid("1342413130")).isFalse();
+        assertThat(cpfValidator.isValid("111.111.111-11")).isFalse();
+        assertThat(cpfValidator.isValid("00000000000")).isFalse();
+        assertThat(cpfValidator.isValid((CharSequence) null)).isFalse();
+    }
+
+    @Test
+    void shouldValidateNumericAndAlphanumericCnpj() {
+        assertThat(cnpjValidator.isValid("91.509.901/0001-69")).isTrue();
+        assertThat(cnpjValidator.isValid("91509901000169")).isTrue();
+        assertThat(cnpjValidator.isValid("12.ABC.345/01DE-35")).isTrue();
+        assertThat(cnpjValidator.isValid("12ABC34501DE35")).isTrue();
+
+        assertThat(cnpjValidator.isValid("91.509.901/0001-68")).isFalse();
+        assertThat(cnpjValidator.isValid("91.509.901-0001/69")).isFalse();
+        assertThat(cnpjValidator.isValid("12abc34501de35")).isFalse();
+        assertThat(cnpjValidator.isValid("12ABC34501DE3A")).isFalse();
+        assertThat(cnpjValidator.isValid("13424131300")).isFalse();
+        assertThat(cnpjValidator.isValid("00.000.000/0000-00")).isFalse();
+        assertThat(cnpjValidator.isValid("11111111111111")).isFalse();
+    }
+
+    @Test
+    void shouldRejectSequencesOfTheSameDigit() {
+        assertThat(cpfOrCnpjValidator.isValid("00000000000")).isFalse();
+        assertThat(cpfOrCnpjValidator.isValid("00000000000000")).isFalse();
+        assertThat(cpfOrCnpjValidator.isValid("11111111111111")).isFalse();
+        assertThat(cpfOrCnpjValidator.isValid("99.999.999/9999-99")).isFalse();
+    }
+
+    @Test
+    void shouldReportInvalidIndicesInBulk() {
+        CharSequence[] values = {"13424131300", null, "invalid", "91.509.901/0001-69", "91.509.901/0001-68"};
+        assertThat(cpfOrCnpjValidator.validateAll(values)).containsExactly(1, 2, 4);
+        assertThat(cpfValidator.validateAll(values)).containsExactly(1, 2, 3, 4);
+        assertThat(cnpjValidator.invalidIndices(List.of("12ABC34501DE35", "1", "91509901000169")).parallel())
+            .containsExactly(1);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.validation
+
+import com.natpryce.hamkrest.assertion.assertThat
+import com.natpryce.hamkrest.equalTo
+import com.natpryce.hamkrest.sameInstance
+import org.spekframework.spek2.Spek
+import org.spekframework.spek2.style.specification.describe
+
+@Suppress("unused")
+class IncrementalTypedValidationEntityTest :
+    Spek({
+        describe("A validação incremental") {
+            it("executa novamente apenas as regras das propriedades alteradas") {
+                val addresses = listOf(IncrementalAddress("Rua do Ouvidor, 100"), IncrementalAddress("Rua Direita, 1"))
+                val author = IncrementalAuthor("Felipe Desiderati", addresses)
+                assertThat(author, hasNoValidationErrors())
+                assertThat(author.nameValidations, equalTo(1))
+                assertThat(author.addressesValidations, equalTo(1))
+
+                val result = author.isValid()
+                assertThat(author.isValid(), sameInstance(result))
+
+                author.name = ""
+                assertThat(author, hasExactValidationErrors("BlankAuthorName"))
+                assertThat(author.nameValidations, equalTo(2))
+                assertThat(author.addressesValidations, equalTo(1))
+
+                addresses[1].fullAddress = ""
+                assertThat(author, hasExactValidationErrors("BlankAuthorName", "Addresses[1]BlankFullAddress"))
+                assertThat(author.nameValidations, equalTo(2))
+                assertThat(author.addressesValidations, equalTo(2))
+                assertThat(addresses[0].validations, equalTo(1))
+
+                author.name = "Felipe Desiderati"
+                addresses[1].fullAddress = "Rua Direita, 1"
+                assertThat(author, hasNoValidationErrors())
+            }
+
+            it("cria uma nova exceção a cada validação com erros") {
+                val author = IncrementalAuthor("", listOf())
+                val first = author.isValid().leftOrNull()!!
+                val second = author.isValid().leftOrNull()!!
+
+                assertThat(second, !sameInstance(first))
+                assertThat(second.typedValidationErrors, equalTo(first.typedValidationErrors))
+                assertThat(author.nameValidations, equalTo(1))
+            }
+        }
+    })
+
+class IncrementalAddress(fullAddress: String) : IncrementalTypedValidationEntity() {
+    var fullAddress by validated(fullAddress)
+    var validations = 0
+
+    init {
+        rule(::fullAddress) {
+            validations++
+            isValid(fullAddress.isNotBlank()) { "BlankFullAddress" }
+        }
+    }
+}
+
+class IncrementalAuthor(name: String, addresses: List<IncrementalAddress>) : IncrementalTypedValidationEntity() {
+    var name by validated(name)
+    var addresses by validated(addresses)
+    var nameValidations = 0
+    var addressesValidations = 0
+
+    init {
+        rule(::name) {
+            nameValidations++
+            isValid(name.isNotBlank()) { "BlankAuthorName" }
+        }
+        rule(::addresses) {
+            addressesValidations++
+            isValid(addresses) { "Addresses" }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.validation
+
+import com.natpryce.hamkrest.absent
+import com.natpryce.hamkrest.assertion.assertThat
+import com.natpryce.hamkrest.equalTo
+import org.spekframework.spek2.Spek
+import org.spekframework.spek2.style.specification.describe
+import java.util.concurrent.ForkJoinPool
+
+@Suppress("unused")
+class TypedValidationBulkTest :
+    Spek({
+        val addresses = (0 until 10_000).map { index ->
+            if (index % 1000 == 7) Address(fullAddress = "") else Address("Work", "Rua do Ouvidor, $index")
+        }
+        val expectedErrors = (7 until 10_000 step 1000).map { index -> "Addresses[$index]BlankFullAddress" }
+
+        describe("A validação em massa") {
+            it("coleta todos os erros em ordem") {
+                val errors = TypedValidationException().isValid(addresses) { "Addresses" }
+                assertThat(errors?.map { it.errorMessage }, equalTo(expectedErrors))
+            }
+
+            it("coleta os mesmos erros em paralelo") {
+                val errors = TypedValidationException().isValidInParallel(addresses, ForkJoinPool(4)) { "Addresses" }
+                assertThat(errors?.map { it.errorMessage }, equalTo(expectedErrors))
+            }
+
+            it("para no primeiro erro") {
+                val errors = TypedValidationException().isValidFailFast(addresses) { "Addresses" }
+                assertThat(errors?.map { it.errorMessage }, equalTo(listOf("Addresses[7]BlankFullAddress")))
+            }
+
+            it("emite os erros conforme são encontrados") {
+                val errors = addresses.validationErrors("Addresses").map { it.errorMessage }
+                assertThat(errors.first(), equalTo("Addresses[7]BlankFullAddress"))
+                assertThat(errors.toList(), equalTo(expectedErrors))
+            }
+
+            it("não retorna erros para entidades válidas") {
+                val validAddresses = addresses.filter { it.isValid().isRight() }
+                assertThat(TypedValidationException().isValidInParallel(validAddresses), absent())
+            }
+        }
+    })
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.validation
+
+import com.natpryce.hamkrest.assertion.assertThat
+import com.natpryce.hamkrest.equalTo
+import com.natpryce.hamkrest.sameInstance
+import org.spekframework.spek2.Spek
+import org.spekframework.spek2.style.specification.describe
+import org.springframework.aop.support.AopUtils
+
+@Suppress("unused")
+class TypedValidationMethodInterceptorTest :
+    Spek({
+        val postProcessor = TypedValidationPostProcessor().apply { afterPropertiesSet() }
+        val saveMethod = TypedValidationTestService::class.java
+            .getMethod("save", TypedValidationTestObject::class.java, Address::class.java)
+
+        describe("O interceptador de validação") {
+            it("reporta os erros de todos os argumentos inválidos") {
+                val service = postProcessor.postProcessAfterInitialization(
+                    TypedValidationTestService(), "service"
+                ) as TypedValidationTestService
+                assertThat(AopUtils.isAopProxy(service), equalTo(true))
+
+                val exception = runCatching {
+                    service.save(TypedValidationTestObject(""), Address(fullAddress = ""))
+                }.exceptionOrNull() as TypedValidationException
+                assertThat(
+                    exception.typedValidationErrors.map { it.errorMessage }.toSet(),
+                    equalTo(setOf("invalidName", "invalidNameLength", "BlankFullAddress"))
+                )
+            }
+
+            it("não intercepta os métodos sem parâmetros validáveis") {
+                val notValidatedMethod = TypedValidationTestService::class.java
+                    .getMethod("find", TypedValidationTestObject::class.java)
+                assertThat(
+                    TypedValidationMethodInterceptor.METHOD_MATCHER
+                        .matches(notValidatedMethod, TypedValidationTestService::class.java),
+                    equalTo(false)
+                )
+
+                val service = NotValidatedTestService()
+                assertThat(
+                    postProcessor.postProcessAfterInitialization(service, "notValidatedService"),
+                    sameInstance<Any>(service)
+                )
+            }
+
+            it("reutiliza o plano de invocação nas chamadas seguintes") {
+                val service = postProcessor.postProcessAfterInitialization(
+                    TypedValidationTestService(), "service"
+                ) as TypedValidationTestService
+                val plan = TypedValidationMethodInterceptor.invocationPlan(saveMethod)
+
+                val testObject = TypedValidationTestObject("Test")
+                val address = Address(fullAddress = "Rua do Ouvidor, 100")
+                assertThat(service.save(testObject, address), equalTo("saved"))
+                assertThat(service.save(testObject, address), equalTo("saved"))
+                assertThat(TypedValidationMethodInterceptor.invocationPlan(saveMethod), sameInstance(plan))
+            }
+        }
+    })
+
+@TypedValidated
+open class TypedValidationTestService {
+
+    open fun save(@TypedValidated first: TypedValidationTestObject, @TypedValidated second: Address): String = "saved"
+
+    open fun find(value: TypedValidationTestObject): String = value.name
+}
+
+@TypedValidated
+open class NotValidatedTestService {
+
+    open fun find(value: TypedValidationTestObject): String = value.name
+}
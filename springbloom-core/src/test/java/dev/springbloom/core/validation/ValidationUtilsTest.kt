@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.validation
+
+import com.natpryce.hamkrest.assertion.assertThat
+import com.natpryce.hamkrest.sameInstance
+import com.natpryce.hamkrest.throws
+import jakarta.validation.ConstraintViolationException
+import jakarta.validation.constraints.NotBlank
+import org.spekframework.spek2.Spek
+import org.spekframework.spek2.style.specification.describe
+
+@Suppress("unused")
+class ValidationUtilsTest :
+    Spek({
+        describe("O validador compartilhado") {
+            it("é criado apenas uma vez") {
+                assertThat(ValidationUtils.validator, sameInstance(ValidationUtils.validator))
+            }
+
+            it("rejeita objetos inválidos") {
+                assertThat({ ValidationProperties("").validate() }, throws<ConstraintViolationException>())
+                assertThat({ ValidationProperties("Test").validate() }, !throws<ConstraintViolationException>())
+            }
+
+            it("ignora objetos sem restrições") {
+                assertThat({ "Test".validate() }, !throws<ConstraintViolationException>())
+            }
+
+            it("valida a mesma instância apenas uma vez") {
+                val properties = ValidationProperties("Test")
+                properties.validateOnce()
+
+                properties.name = ""
+                assertThat({ properties.validateOnce() }, !throws<ConstraintViolationException>())
+                assertThat({ properties.validate() }, throws<ConstraintViolationException>())
+
+                ValidationUtils.clearValidatedInstances()
+                assertThat({ properties.validateOnce() }, throws<ConstraintViolationException>())
+            }
+
+            it("distingue as instâncias validadas pela identidade") {
+                val validated = DataValidationProperties("Test")
+                val other = DataValidationProperties("Test")
+                validated.validateOnce()
+
+                validated.name = ""
+                other.name = ""
+                assertThat({ validated.validateOnce() }, !throws<ConstraintViolationException>())
+                assertThat({ other.validateOnce() }, throws<ConstraintViolationException>())
+            }
+        }
+    })
+
+class ValidationProperties(@field:NotBlank var name: String)
+
+data class DataValidationProperties(@field:NotBlank var name: String)
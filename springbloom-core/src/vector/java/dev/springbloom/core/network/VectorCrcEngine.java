@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.core.network;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Slicing-by-8 engine which processes several lanes at once, using the {@code jdk.incubator.vector} module.
+ * <p>
+ * Each round splits the input into one {@link #STRIDE}-byte segment per vector lane. The lanes are folded
+ * independently, with gathers from the slicing tables, the first one starting from the current register and
+ * the others from zero. Then, the lanes are merged with the precomputed GF(2) matrix which feeds
+ * {@link #STRIDE} zero bytes into a register, the same technique used by {@link CrcCalculator#combine}.
+ * The Vector API has no carry-less multiplication, hence the tables instead of the usual folding constants.
+ * <p>
+ * Requires {@code --add-modules jdk.incubator.vector}, otherwise this class must not be loaded, so it is
+ * only compiled with the {@code vector-crc} profile. Since the gathers are not faster than the scalar lookups
+ * on every JVM and CPU, it is only used when enabled with the {@code springbloom.crc.vector.threshold} system
+ * property, see {@link CrcCalculator}.
+ */
+final class VectorCrcEngine implements LaneCrcEngine {
+
+    /// Number of bytes processed by each lane on each round.
+    static final int STRIDE = 256;
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private static final VarHandle LONG_LITTLE_ENDIAN =
+        MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BIG_ENDIAN =
+        MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final long[] slicingTables;
+    private final boolean reflected;
+    private final int toLeft;
+    private final long[] strideOperator;
+    private final int lanes;
+
+    /**
+     * Indicates whether the platform has at least two long lanes, otherwise there is nothing to gain.
+     */
+    static boolean isUsable() {
+        return SPECIES.length() >= 2;
+    }
+
+    /**
+     * Looked up by the {@link CrcCalculator}, given its slicing tables and the function which feeds a single
+     * zero byte into its register.
+     */
+    VectorCrcEngine(long[] slicingTables, boolean reflected, int hashSize, LongUnaryOperator zeroByte) {
+        this.slicingTables = slicingTables;
+        this.reflected = reflected;
+        this.toLeft = 64 - hashSize;
+        this.strideOperator = new long[hashSize];
+        for (int bit = 0; bit < hashSize; bit++) {
+            long crc = 1L << bit;
+            for (int i = 0; i < STRIDE; i++) {
+                crc = zeroByte.applyAsLong(crc);
+            }
+            strideOperator[bit] = crc;
+        }
+        this.lanes = SPECIES.length();
+    }
+
+    @Override
+    public int alignedLength(int length) {
+        int roundSize = lanes * STRIDE;
+        return length - length % roundSize;
+    }
+
+    @Override
+    public long update(long crc, byte[] data, int offset, int length) {
+        // Instances are shared between threads, so the scratch arrays are not fields.
+        long[] blocks = new long[lanes];
+        int[] indexes = new int[lanes];
+        int roundSize = lanes * STRIDE;
+        for (int round = offset; round < offset + length; round += roundSize) {
+            LongVector registers = LongVector.zero(SPECIES).withLane(0, crc);
+            for (int i = 0; i < STRIDE; i += 8) {
+                for (int lane = 0; lane < lanes; lane++) {
+                    int index = round + lane * STRIDE + i;
+                    blocks[lane] = reflected
+                        ? (long) LONG_LITTLE_ENDIAN.get(data, index)
+                        : (long) LONG_BIG_ENDIAN.get(data, index);
+                }
+                // The register is XORed into the first bytes of the block, as in the scalar engines.
+                LongVector block = LongVector.fromArray(SPECIES, blocks, 0)
+                    .lanewise(VectorOperators.XOR, reflected ? registers : registers.lanewise(VectorOperators.LSHL, toLeft));
+                registers = fold(block, blocks, indexes);
+            }
+
+            crc = registers.lane(0);
+            for (int lane = 1; lane < lanes; lane++) {
+                crc = CrcCalculator.gf2MatrixTimes(strideOperator, crc) ^ registers.lane(lane);
+            }
+        }
+        return crc;
+    }
+
+    private LongVector fold(LongVector block, long[] scratch, int[] indexes) {
+        LongVector result = LongVector.zero(SPECIES);
+        for (int k = 0; k < 8; k++) {
+            // The first byte of the block is the farthest one from the end, so it uses the last table.
+            int table = reflected ? 7 - k : k;
+            LongVector index = block.lanewise(VectorOperators.LSHR, 8 * k)
+                .lanewise(VectorOperators.AND, 0xFF)
+                .lanewise(VectorOperators.ADD, (long) table << 8);
+            // Gathers take the indexes from an int array. This is faster than converting the vector shape.
+            index.intoArray(scratch, 0);
+            for (int lane = 0; lane < lanes; lane++) {
+                indexes[lane] = (int) scratch[lane];
+            }
+            result = result.lanewise(VectorOperators.XOR, LongVector.fromArray(SPECIES, slicingTables, 0, indexes, 0));
+        }
+        return result;
+    }
+}
@@ -19,6 +19,7 @@
 package dev.springbloom.data.multitenant.configuration;
 
 import dev.springbloom.data.multitenant.MultiTenantConnectionProvider;
+import dev.springbloom.data.multitenant.MultiTenantContext;
 import dev.springbloom.data.multitenant.MultiTenantIdentifierResolver;
 import org.hibernate.cfg.AvailableSettings;
 import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
@@ -33,6 +34,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.core.task.TaskDecorator;
 
 @Configuration(proxyBeanMethods = false)
 @AutoConfigureBefore({
@@ -61,4 +63,23 @@ public class MultiTenantAutoConfiguration {
             hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, multiTenantIdentifierResolver);
         };
     }
+
+    /**
+     * Propagates the current tenant to the tasks run by the virtual thread executors.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.async.executor-mode", havingValue = "VIRTUAL")
+    public TaskDecorator multiTenantContextTaskDecorator() {
+        return runnable -> {
+            String tenant = MultiTenantContext.getId();
+            return () -> {
+                try {
+                    MultiTenantContext.set(tenant);
+                    runnable.run();
+                } finally {
+                    MultiTenantContext.clear();
+                }
+            };
+        };
+    }
 }
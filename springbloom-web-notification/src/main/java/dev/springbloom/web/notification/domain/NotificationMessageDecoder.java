@@ -18,21 +18,21 @@
  */
 package dev.springbloom.web.notification.domain;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import dev.springbloom.core.exception.ApplicationException;
+import dev.springbloom.core.json.ObjectMapperRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.atmosphere.config.managed.Decoder;
 
 @Slf4j
 public class NotificationMessageDecoder implements Decoder<String, NotificationMessage<?>> {
 
-    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ObjectReader reader = ObjectMapperRegistry.getDefault().reader(NotificationMessage.class);
 
     @Override
     public NotificationMessage<?> decode(String string) {
         try {
-            return mapper.readValue(string, NotificationMessage.class);
+            return reader.readValue(string);
         } catch (Exception ex) {
             String errorMsg = "Unable to deserialize JSON object: " + string;
             log.error(ex.getMessage(), ex);
@@ -18,21 +18,21 @@
  */
 package dev.springbloom.web.notification.domain;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import dev.springbloom.core.exception.ApplicationException;
+import dev.springbloom.core.json.ObjectMapperRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.atmosphere.config.managed.Encoder;
 
 @Slf4j
 public class NotificationMessageEncoder implements Encoder<NotificationMessage<?>, String> {
 
-    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ObjectWriter writer = ObjectMapperRegistry.getDefault().writer();
 
     @Override
     public String encode(NotificationMessage object) {
         try {
-            return mapper.writeValueAsString(object);
+            return writer.writeValueAsString(object);
         } catch (Exception ex) {
             String errorMsg = "Unable to serialize JSON object: " + object;
             log.error(ex.getMessage(), ex);
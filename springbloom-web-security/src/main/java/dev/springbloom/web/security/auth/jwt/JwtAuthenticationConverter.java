@@ -19,7 +19,7 @@
 package dev.springbloom.web.security.auth.jwt;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.springbloom.core.json.ObjectMapperRegistry;
 import dev.springbloom.web.security.auth.jwt.JwtAuthenticationToken;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -37,7 +37,7 @@ public class JwtAuthenticationConverter implements AuthenticationConverter {
     @Override
     public Authentication convert(HttpServletRequest request) {
         try {
-            JsonNode jsonNode = new ObjectMapper().readTree(request.getInputStream());
+            JsonNode jsonNode = ObjectMapperRegistry.getDefault().reader(JsonNode.class).readTree(request.getInputStream());
             JsonNode usernameNode =
                 jsonNode.get(UsernamePasswordAuthenticationFilter.SPRING_SECURITY_FORM_USERNAME_KEY);
             if (usernameNode == null) {
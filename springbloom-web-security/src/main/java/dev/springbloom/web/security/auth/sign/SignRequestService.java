@@ -84,7 +84,7 @@ public class SignRequestService {
     @SuppressWarnings("unused")
     public Request sign(Request request) {
         try {
-            ValidationUtils.Companion.validate(signRequestAuthorizationClientProperties, SignValidation.class);
+            ValidationUtils.Companion.validateOnce(signRequestAuthorizationClientProperties, SignValidation.class);
 
             SimpleDateFormat dateFormat = new SimpleDateFormat(HEADER_DATE_FORMAT, Locale.US);
             Request newRequest = request.newBuilder()
@@ -116,7 +116,7 @@ public class SignRequestService {
     @SuppressWarnings("unused")
     public HttpRequest sign(HttpRequest httpRequest, byte[] body) {
         try {
-            ValidationUtils.Companion.validate(signRequestAuthorizationClientProperties, SignValidation.class);
+            ValidationUtils.Companion.validateOnce(signRequestAuthorizationClientProperties, SignValidation.class);
 
             SimpleDateFormat dateFormat = new SimpleDateFormat(HEADER_DATE_FORMAT, Locale.US);
             httpRequest.getHeaders().add(HttpHeaders.DATE, dateFormat.format(new Date()));
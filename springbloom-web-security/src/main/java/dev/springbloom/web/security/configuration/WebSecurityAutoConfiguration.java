@@ -37,12 +37,14 @@ import org.springframework.boot.autoconfigure.security.oauth2.client.OAuth2Clien
 import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.context.annotation.*;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.DefaultAuthenticationEventPublisher;
 import org.springframework.security.authorization.method.AuthorizationManagerAfterMethodInterceptor;
 import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -619,4 +621,16 @@ public class WebSecurityAutoConfiguration {
     ) {
         return new DelegatingSecurityContextAsyncTaskExecutor(taskExecutor);
     }
+
+    /**
+     * Propagates the security context to the tasks run by the virtual thread executors, which apply all the
+     * {@link TaskDecorator} beans.
+     */
+    @Bean
+    @ConditionalOnExpression(
+        "'${spring.async.executor-mode:PLATFORM}' == 'VIRTUAL' and ${spring.mvc.async.delegate-security-context:true}"
+    )
+    public TaskDecorator securityContextTaskDecorator() {
+        return DelegatingSecurityContextRunnable::new;
+    }
 }
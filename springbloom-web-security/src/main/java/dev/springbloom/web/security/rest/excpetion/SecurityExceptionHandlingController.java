@@ -18,14 +18,14 @@
  */
 package dev.springbloom.web.security.rest.excpetion;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.springbloom.core.json.ObjectMapperRegistry;
+import dev.springbloom.core.mapper.CompiledMapper;
 import dev.springbloom.web.rest.exception.ExceptionHandlingController;
 import dev.springbloom.web.rest.exception.ResponseExceptionDTO;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
@@ -58,19 +58,19 @@ import java.util.List;
 public class SecurityExceptionHandlingController extends ExceptionHandlingController {
 
     /**
-     * @param shouldLogAsWarning List of exception class names that should be logged as warnings
-     * @param objectMapper       The object mapper for JSON serialization
-     * @param modelMapper        The model mapper for object mapping
+     * @param shouldLogAsWarning   List of exception class names that should be logged as warnings
+     * @param objectMapperRegistry The registry of JSON readers and writers
+     * @param compiledMapper       The mapper of the API exception copycats
      */
     @Autowired
     public SecurityExceptionHandlingController(
         @NotEmpty @Value("${spring.web.exception-handler.should-log-as-warning}")
         List<@NotBlank String> shouldLogAsWarning,
 
-        ObjectMapper objectMapper,
-        ModelMapper modelMapper
+        ObjectMapperRegistry objectMapperRegistry,
+        CompiledMapper compiledMapper
     ) {
-        super(shouldLogAsWarning, objectMapper, modelMapper);
+        super(shouldLogAsWarning, objectMapperRegistry, compiledMapper);
     }
 
     /**
@@ -21,6 +21,7 @@ package dev.springbloom.web.configuration;
 import dev.springbloom.data.jpa.configuration.JpaAutoConfiguration;
 import dev.springbloom.web.UrlUtils;
 import dev.springbloom.web.configuration.async.AsyncWebConfiguration;
+import dev.springbloom.web.configuration.thymeleaf.StreamingThymeleafViewConfiguration;
 import dev.springbloom.web.graphql.NameSchemaDirectiveWiring;
 import dev.springbloom.web.rest.exception.ResponseExceptionDTOHttpMessageConverter;
 import graphql.schema.GraphQLScalarType;
@@ -85,6 +86,7 @@ import static dev.springbloom.web.UrlUtils.URL_PATH_SEPARATOR;
  *   <li>Customizes Spring Data REST repository configuration</li>
  *   <li>Configures GraphQL support with custom scalar types and directives</li>
  *   <li>Sets up exception handling for REST responses</li>
+ *   <li>Streams the rendered Thymeleaf views to the client in chunks</li>
  * </ul>
  * <p>
  * The configuration is automatically applied to servlet-based web applications and
@@ -96,6 +98,7 @@ import static dev.springbloom.web.UrlUtils.URL_PATH_SEPARATOR;
  * @see JpaWebConfiguration
  * @see OpenApiConfiguration
  * @see HttpClientsConfiguration
+ * @see StreamingThymeleafViewConfiguration
  */
 @Slf4j
 @Configuration(proxyBeanMethods = false)
@@ -114,7 +117,8 @@ import static dev.springbloom.web.UrlUtils.URL_PATH_SEPARATOR;
     JpaAutoConfiguration.class,
     JpaWebConfiguration.class,
     OpenApiConfiguration.class,
-    HttpClientsConfiguration.class
+    HttpClientsConfiguration.class,
+    StreamingThymeleafViewConfiguration.class
 })
 public class WebAutoConfiguration implements WebMvcRegistrations, WebMvcConfigurer, RepositoryRestConfigurer {
 
@@ -38,9 +38,10 @@ fun <T> supplyAsyncWithContext(
     supplier: Supplier<T>
 ): CompletableFuture<T> {
 
-    val asyncContextPropagationMode = localAsyncContextPropagationMode ?: AsyncContextPropagationMode.valueOf(
-        ApplicationContextProvider.getProperty("spring.mvc.async.context-propagation-mode")
-            ?: AsyncContextPropagationMode.NON_INHERITABLE.name
+    val asyncContextPropagationMode = localAsyncContextPropagationMode ?: ApplicationContextProvider.getCachedProperty(
+        "spring.mvc.async.context-propagation-mode",
+        AsyncContextPropagationMode::class.java,
+        AsyncContextPropagationMode.NON_INHERITABLE
     )
 
     return if (asyncContextPropagationMode == AsyncContextPropagationMode.INHERITABLE) {
@@ -28,8 +28,6 @@ import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.Objects;
-
 /**
  * A {@link TaskDecorator} that propagates the {@link LocaleContext} and {@link RequestAttributes} from the calling
  * thread to the children threads.
@@ -56,35 +54,20 @@ public class AsyncContextAwareTaskDecorator implements TaskDecorator {
         };
     }
 
+    /**
+     * Returns a {@link RequestAttributesSnapshot}, which stays active after the request has completed and shares
+     * one copy of the attributes among all the tasks started from the same request.
+     */
     public static RequestAttributes cloneRequestAttributes(RequestAttributes requestAttributes) {
-        RequestAttributes clonedRequestAttribute;
-        try {
-            clonedRequestAttribute =
-                new ServletRequestAttributes(
-                    ((ServletRequestAttributes) requestAttributes).getRequest(),
-                    ((ServletRequestAttributes) requestAttributes).getResponse()
-                );
-
-            for (String name : requestAttributes.getAttributeNames(RequestAttributes.SCOPE_REQUEST)) {
-                clonedRequestAttribute.setAttribute(
-                    name,
-                    Objects.requireNonNull(requestAttributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST)),
-                    RequestAttributes.SCOPE_REQUEST
-                );
-            }
-
-            for (String name : requestAttributes.getAttributeNames(RequestAttributes.SCOPE_SESSION)) {
-                clonedRequestAttribute.setAttribute(
-                    name,
-                    Objects.requireNonNull(requestAttributes.getAttribute(name, RequestAttributes.SCOPE_SESSION)),
-                    RequestAttributes.SCOPE_SESSION
-                );
+        if (requestAttributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            try {
+                return new RequestAttributesSnapshot(servletRequestAttributes);
+            } catch (IllegalStateException e) {
+                log.warn("It was not possible to clone the request attributes!", e);
+                return requestAttributes;
             }
-
-            return clonedRequestAttribute;
-        } catch (Exception e) {
-            log.warn("It was not possible to clone the request attributes!", e);
-            return requestAttributes;
         }
+        log.warn("It was not possible to clone the request attributes of type: {}", requestAttributes.getClass());
+        return requestAttributes;
     }
 }
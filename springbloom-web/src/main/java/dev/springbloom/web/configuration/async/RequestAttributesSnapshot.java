@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.web.configuration.async;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link RequestAttributes} of an asynchronous task, still active after the request they were taken from
+ * has completed, holding a copy of the request and session attributes taken while the request was active.
+ * <p>
+ * Servlet containers recycle their request objects once the request has completed, so the attributes are never
+ * read from the request afterward. They are copied when the first task is started from the request, into an
+ * immutable copy shared by all the tasks started afterward from the same {@link ServletRequestAttributes}, so the
+ * attributes set on the request in the meantime are not seen by them. The attributes set or removed by a task
+ * stay in its own snapshot, without affecting the request nor the sibling tasks.
+ * <p>
+ * The snapshot of a task started by another task is taken from the snapshot of the latter, so it sees what its
+ * parent task has set.
+ */
+public class RequestAttributesSnapshot extends ServletRequestAttributes {
+
+    /// The copy of the attributes shared by the snapshots of each request, released along with the request.
+    /// The keys are compared by identity, as {@link ServletRequestAttributes} does not override equals.
+    private static final Map<ServletRequestAttributes, CapturedAttributes> CAPTURED_ATTRIBUTES =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    /// Marks the attributes removed by the task, as the maps do not accept null values.
+    private static final Object REMOVED = new Object();
+
+    private final CapturedAttributes captured;
+
+    private final Map<String, Object> requestAttributes = new ConcurrentHashMap<>();
+    private final Map<String, Object> sessionAttributes = new ConcurrentHashMap<>();
+
+    /**
+     * Takes a snapshot of the given attributes, which must still be active, unless they are themselves a snapshot.
+     */
+    public RequestAttributesSnapshot(ServletRequestAttributes requestAttributes) {
+        super(requestAttributes.getRequest(), requestAttributes.getResponse());
+        this.captured = requestAttributes instanceof RequestAttributesSnapshot snapshot
+            ? snapshot.capture()
+            : capture(requestAttributes);
+    }
+
+    @Override
+    public Object getAttribute(@NotNull String name, int scope) {
+        Object value = attributes(scope).get(name);
+        if (value == null) {
+            return captured.attributes(scope).get(name);
+        }
+        return value == REMOVED ? null : value;
+    }
+
+    @Override
+    public void setAttribute(@NotNull String name, @NotNull Object value, int scope) {
+        attributes(scope).put(name, value);
+    }
+
+    @Override
+    public void removeAttribute(@NotNull String name, int scope) {
+        attributes(scope).put(name, REMOVED);
+    }
+
+    @NotNull
+    @Override
+    public String[] getAttributeNames(int scope) {
+        Set<String> names = new LinkedHashSet<>(captured.attributes(scope).keySet());
+        attributes(scope).forEach((name, value) -> {
+            if (value == REMOVED) {
+                names.remove(name);
+            } else {
+                names.add(name);
+            }
+        });
+        return names.toArray(String[]::new);
+    }
+
+    private Map<String, Object> attributes(int scope) {
+        return scope == RequestAttributes.SCOPE_REQUEST ? requestAttributes : sessionAttributes;
+    }
+
+    /**
+     * Returns the attributes seen by this snapshot, for the snapshots of the tasks started from its task.
+     */
+    private CapturedAttributes capture() {
+        if (requestAttributes.isEmpty() && sessionAttributes.isEmpty()) {
+            return captured;
+        }
+        return new CapturedAttributes(
+            copy(this, RequestAttributes.SCOPE_REQUEST),
+            copy(this, RequestAttributes.SCOPE_SESSION)
+        );
+    }
+
+    /**
+     * Returns the copy of the attributes shared by the snapshots of the request, copying them only once.
+     */
+    private static CapturedAttributes capture(ServletRequestAttributes requestAttributes) {
+        CapturedAttributes captured = CAPTURED_ATTRIBUTES.get(requestAttributes);
+        if (captured == null) {
+            // Copied outside the lock of the map, which is shared by all requests.
+            captured = new CapturedAttributes(
+                copy(requestAttributes, RequestAttributes.SCOPE_REQUEST),
+                copy(requestAttributes, RequestAttributes.SCOPE_SESSION)
+            );
+            CapturedAttributes previous = CAPTURED_ATTRIBUTES.putIfAbsent(requestAttributes, captured);
+            if (previous != null) {
+                captured = previous;
+            }
+        }
+        return captured;
+    }
+
+    private static Map<String, Object> copy(RequestAttributes requestAttributes, int scope) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (String name : requestAttributes.getAttributeNames(scope)) {
+            Object value = requestAttributes.getAttribute(name, scope);
+            if (value != null) {
+                attributes.put(name, value);
+            }
+        }
+        return Map.copyOf(attributes);
+    }
+
+    private record CapturedAttributes(Map<String, Object> requestAttributes, Map<String, Object> sessionAttributes) {
+
+        Map<String, Object> attributes(int scope) {
+            return scope == RequestAttributes.SCOPE_REQUEST ? requestAttributes : sessionAttributes;
+        }
+    }
+}
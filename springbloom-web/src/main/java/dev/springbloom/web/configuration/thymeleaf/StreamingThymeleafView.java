@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.web.configuration.thymeleaf;
+
+import dev.springbloom.core.template.ChunkedWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.Getter;
+import lombok.Setter;
+import org.thymeleaf.spring6.view.ThymeleafView;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * {@link ThymeleafView} which sends the rendered template to the client in chunks of
+ * {@link #getFlushThreshold() flush threshold} characters while it is still being rendered,
+ * so large pages and reports are never fully kept in memory, neither as a {@link String} nor in the response buffer.
+ * <p>
+ * Unlike with the {@link PrintWriter} of the response, which only records its errors, a failure to send a chunk,
+ * e.g. because the client has disconnected, stops the rendering and is rethrown as an {@link IOException}.
+ */
+@Getter
+@Setter
+@SuppressWarnings("unused")
+public class StreamingThymeleafView extends ThymeleafView {
+
+    private int flushThreshold = ChunkedWriter.DEFAULT_FLUSH_THRESHOLD;
+
+    @Override
+    public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response)
+        throws Exception {
+
+        ChunkedResponse chunkedResponse = new ChunkedResponse(response, flushThreshold);
+        try {
+            super.render(model, request, chunkedResponse);
+            chunkedResponse.flushWriter();
+        } catch (Exception ex) {
+            IOException writeFailure = findWriteFailure(ex);
+            throw writeFailure != null ? writeFailure : ex;
+        }
+    }
+
+    /// Thymeleaf wraps the exceptions raised by the writer into its own exceptions.
+    private static IOException findWriteFailure(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof UncheckedIOException uncheckedIOException) {
+                return uncheckedIOException.getCause();
+            }
+        }
+        return null;
+    }
+
+    private static class ChunkedResponse extends HttpServletResponseWrapper {
+
+        private final int flushThreshold;
+
+        private PrintWriter writer;
+
+        ChunkedResponse(HttpServletResponse response, int flushThreshold) {
+            super(response);
+            this.flushThreshold = flushThreshold;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new FailFastPrintWriter(
+                    new ChunkedWriter(new ErrorCheckingWriter(super.getWriter()), flushThreshold)
+                );
+            }
+            return writer;
+        }
+
+        void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+    }
+
+    /**
+     * Writer over the {@link PrintWriter} of the response, which fails when the latter has recorded an error.
+     */
+    private static class ErrorCheckingWriter extends Writer {
+
+        private final PrintWriter writer;
+
+        ErrorCheckingWriter(PrintWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(char[] buf, int off, int len) {
+            writer.write(buf, off, len);
+        }
+
+        @Override
+        public void write(String s, int off, int len) {
+            writer.write(s, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Also flushes the writer.
+            if (writer.checkError()) {
+                throw new IOException("It was not possible to send the response, the client may have disconnected!");
+            }
+        }
+
+        @Override
+        public void close() {
+            writer.close();
+        }
+    }
+
+    /**
+     * {@link PrintWriter} which rethrows the {@link IOException}s of its writer, instead of swallowing them.
+     */
+    private static class FailFastPrintWriter extends PrintWriter {
+
+        FailFastPrintWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) {
+            try {
+                out.write(c);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public void write(char[] buf, int off, int len) {
+            try {
+                out.write(buf, off, len);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public void write(String s, int off, int len) {
+            try {
+                out.write(s, off, len);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public void println() {
+            write(System.lineSeparator());
+        }
+
+        @Override
+        public void flush() {
+            try {
+                out.flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.web.configuration.thymeleaf;
+
+import dev.springbloom.core.template.ChunkedWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+/**
+ * Makes the Thymeleaf views of Spring MVC stream the rendered templates to the client, when the property
+ * {@code templates.streaming.mvc.enabled} is {@code true}.
+ * <p>
+ * Once the first chunk has been sent, the response is committed, so an error raised later while rendering
+ * can no longer be turned into an error status nor an error page. Enable it only if the views are large enough
+ * for that to be worth it.
+ *
+ * @see StreamingThymeleafView
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(ThymeleafViewResolver.class)
+@ConditionalOnProperty(name = "templates.streaming.mvc.enabled", havingValue = "true")
+public class StreamingThymeleafViewConfiguration {
+
+    /**
+     * Replaces the view class of the {@link ThymeleafViewResolver} configured by Spring Boot, keeping all its
+     * other settings, and configures each {@link StreamingThymeleafView} it creates, as the resolver initializes
+     * them through the bean factory.
+     *
+     * @param flushThreshold Number of characters rendered before flushing the response.
+     */
+    @Bean
+    public static BeanPostProcessor streamingThymeleafViewPostProcessor(
+        @Value("${templates.streaming.flush-threshold:" + ChunkedWriter.DEFAULT_FLUSH_THRESHOLD + "}") int flushThreshold
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public @NotNull Object postProcessBeforeInitialization(@NotNull Object bean, @NotNull String beanName) {
+                if (bean instanceof ThymeleafViewResolver viewResolver) {
+                    log.info("Configuring Thymeleaf views to stream templates in chunks of {} chars...", flushThreshold);
+                    viewResolver.setViewClass(StreamingThymeleafView.class);
+                } else if (bean instanceof StreamingThymeleafView view) {
+                    view.setFlushThreshold(flushThreshold);
+                }
+                return bean;
+            }
+        };
+    }
+}
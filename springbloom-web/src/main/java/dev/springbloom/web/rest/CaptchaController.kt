@@ -20,7 +20,7 @@
 package dev.springbloom.web.rest
 
 import com.fasterxml.jackson.databind.JsonNode
-import com.fasterxml.jackson.databind.ObjectMapper
+import dev.springbloom.core.json.ObjectMapperRegistry
 import dev.springbloom.google.GoogleCaptchaService
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
 import org.springframework.web.bind.annotation.PostMapping
@@ -31,13 +31,13 @@ import org.springframework.web.bind.annotation.RestController
 @ConditionalOnProperty("google.captcha.secret-key")
 @Suppress("SpringJavaInjectionPointsAutowiringInspection")
 class CaptchaController(
-    private val objectMapper: ObjectMapper,
+    private val objectMapperRegistry: ObjectMapperRegistry,
     private val googleCaptchaService: GoogleCaptchaService,
 ) : PublicController {
 
     @PostMapping("/v1/captcha")
     fun validateCaptcha(@RequestBody payload: String): Boolean {
-        val payloadNode: JsonNode = objectMapper.readTree(payload)
+        val payloadNode: JsonNode = objectMapperRegistry.reader(JsonNode::class.java).readTree(payload)
         val captchaResponse = payloadNode.get("captchaResponse").asText()
         return googleCaptchaService.isCaptchaValid(captchaResponse)
     }
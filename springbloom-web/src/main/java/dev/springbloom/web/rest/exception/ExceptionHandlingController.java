@@ -19,8 +19,9 @@
 package dev.springbloom.web.rest.exception;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.springbloom.core.exception.*;
+import dev.springbloom.core.json.ObjectMapperRegistry;
+import dev.springbloom.core.mapper.CompiledMapper;
 import io.openapi.client.ApiException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
@@ -32,7 +33,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.hibernate.exception.ConstraintViolationException;
 import org.jetbrains.annotations.NotNull;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
@@ -100,8 +100,11 @@ public class ExceptionHandlingController extends ResponseEntityExceptionHandler
 
     public static final HttpStatusCode DEFAULT_HTTP_STATUS = HttpStatus.INTERNAL_SERVER_ERROR;
 
-    private final ObjectMapper objectMapper;
-    private final ModelMapper modelMapper;
+    private static final TypeReference<Map<String, Object>> ERROR_ATTRIBUTES_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapperRegistry objectMapperRegistry;
+    private final CompiledMapper compiledMapper;
 
     @Setter
     private MessageSource messageSource;
@@ -111,8 +114,8 @@ public class ExceptionHandlingController extends ResponseEntityExceptionHandler
     @Autowired
     public ExceptionHandlingController(
         @Value("${spring.web.exception-handler.should-log-as-warning}") @NotEmpty List<@NotBlank String> shouldLogAsWarning,
-        ObjectMapper objectMapper,
-        ModelMapper modelMapper
+        ObjectMapperRegistry objectMapperRegistry,
+        CompiledMapper compiledMapper
     ) {
         this.shouldLogAsWarning = new HashMap<>();
         shouldLogAsWarning.forEach(ex -> {
@@ -130,8 +133,8 @@ public class ExceptionHandlingController extends ResponseEntityExceptionHandler
             }
         });
 
-        this.objectMapper = objectMapper;
-        this.modelMapper = modelMapper;
+        this.objectMapperRegistry = objectMapperRegistry;
+        this.compiledMapper = compiledMapper;
     }
 
     @ExceptionHandler(Throwable.class)
@@ -158,7 +161,7 @@ public class ExceptionHandlingController extends ResponseEntityExceptionHandler
      */
     private ResponseEntity<ResponseExceptionDTO> handleApiExceptionCopycat(HttpServletRequest request, Throwable ex) {
         if (ex instanceof ApiException) {
-            ApiException apiException = modelMapper.map(ex, ApiException.class);
+            ApiException apiException = compiledMapper.map(ex, ApiException.class);
             if (apiException.getCode() != 0 && apiException.getResponseBody() != null
                 && !apiException.getResponseHeaders().isEmpty()) {
 
@@ -273,10 +276,7 @@ public class ExceptionHandlingController extends ResponseEntityExceptionHandler
 
     private ValidationResponseExceptionDTO deserializeApiResponseException(String responseBody) {
         try {
-            TypeReference<ValidationResponseExceptionDTO> typeRef = new TypeReference<>() {
-            };
-
-            return objectMapper.readValue(responseBody, typeRef);
+            return objectMapperRegistry.reader(ValidationResponseExceptionDTO.class).readValue(responseBody);
         } catch (IOException ex) {
             log.info("It is was not possible deserialize API exception body to response exception! " +
                 "Message: {}", ex.getMessage());
@@ -291,10 +291,7 @@ public class ExceptionHandlingController extends ResponseEntityExceptionHandler
      */
     private Map<String, Object> deserializeApiResponseErrorAttributes(String responseBody) {
         try {
-            TypeReference<Map<String, Object>> typeRef = new TypeReference<>() {
-            };
-
-            return objectMapper.readValue(responseBody, typeRef);
+            return objectMapperRegistry.reader(ERROR_ATTRIBUTES_TYPE).readValue(responseBody);
         } catch (IOException ex) {
             log.info("It is was not possible deserialize API exception body to response error attributes! " +
                 "Message: {}", ex.getMessage());
@@ -310,7 +307,7 @@ public class ExceptionHandlingController extends ResponseEntityExceptionHandler
 
         try {
             String prettyPrintedResponseBody =
-                objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(responseObject);
+                objectMapperRegistry.prettyWriter().writeValueAsString(responseObject);
             remoteExceptionStr.append(prettyPrintedResponseBody);
             return true;
         } catch (IOException ex) {
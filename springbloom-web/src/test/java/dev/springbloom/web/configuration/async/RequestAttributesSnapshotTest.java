@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.web.configuration.async;
+
+import jakarta.servlet.http.HttpSession;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.Enumeration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_SESSION;
+
+public class RequestAttributesSnapshotTest {
+
+    @Test
+    void shouldReadThroughAndKeepTheWritesOfTheTask() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("shared", "request value");
+        request.setAttribute("removed", "request value");
+        ServletRequestAttributes requestAttributes = new ServletRequestAttributes(request);
+
+        RequestAttributesSnapshot snapshot = new RequestAttributesSnapshot(requestAttributes);
+        requestAttributes.requestCompleted();
+        snapshot.setAttribute("local", "task value", SCOPE_REQUEST);
+        snapshot.removeAttribute("removed", SCOPE_REQUEST);
+
+        assertThat(snapshot.getAttribute("shared", SCOPE_REQUEST)).isEqualTo("request value");
+        assertThat(snapshot.getAttribute("removed", SCOPE_REQUEST)).isNull();
+        assertThat(snapshot.getAttributeNames(SCOPE_REQUEST)).containsExactlyInAnyOrder("shared", "local");
+        assertThat(request.getAttribute("local")).isNull();
+        assertThat(request.getAttribute("removed")).isEqualTo("request value");
+    }
+
+    @Test
+    void shouldReadThroughTheSnapshotOfTheParentTask() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestAttributesSnapshot parent = new RequestAttributesSnapshot(new ServletRequestAttributes(request));
+        parent.setAttribute("parent", "parent value", SCOPE_REQUEST);
+
+        RequestAttributesSnapshot child = new RequestAttributesSnapshot(parent);
+
+        assertThat(child.getAttribute("parent", SCOPE_REQUEST)).isEqualTo("parent value");
+        assertThat(child.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    void shouldNotReadFromTheRequestOnceItHasBeenRecycled() {
+        RecyclableHttpServletRequest request = new RecyclableHttpServletRequest();
+        request.setAttribute("user", "first user");
+        request.getSession(true).setAttribute("session", "first session");
+        ServletRequestAttributes requestAttributes = new ServletRequestAttributes(request);
+
+        RequestAttributesSnapshot snapshot = new RequestAttributesSnapshot(requestAttributes);
+        requestAttributes.requestCompleted();
+
+        // The container reuses the request for another user.
+        request.recycle();
+        request.reuse();
+        request.setAttribute("user", "second user");
+        request.getSession(true).setAttribute("session", "second session");
+        request.recycle();
+
+        assertThat(snapshot.getAttribute("user", SCOPE_REQUEST)).isEqualTo("first user");
+        assertThat(snapshot.getAttribute("session", SCOPE_SESSION)).isEqualTo("first session");
+        assertThat(snapshot.getAttributeNames(SCOPE_REQUEST)).containsExactly("user");
+        assertThat(snapshot.getAttributeNames(SCOPE_SESSION)).containsExactly("session");
+    }
+
+    @Test
+    void shouldShareOneCopyOfTheAttributesPerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("first", "first value");
+        ServletRequestAttributes requestAttributes = new ServletRequestAttributes(request);
+
+        RequestAttributesSnapshot first = new RequestAttributesSnapshot(requestAttributes);
+        first.setAttribute("task", "task value", SCOPE_REQUEST);
+        request.setAttribute("second", "second value");
+        RequestAttributesSnapshot sibling = new RequestAttributesSnapshot(requestAttributes);
+        RequestAttributesSnapshot nextRequest = new RequestAttributesSnapshot(new ServletRequestAttributes(request));
+
+        assertThat(first.getAttributeNames(SCOPE_REQUEST)).containsExactlyInAnyOrder("first", "task");
+        assertThat(sibling.getAttributeNames(SCOPE_REQUEST)).containsExactly("first");
+        assertThat(nextRequest.getAttributeNames(SCOPE_REQUEST)).containsExactlyInAnyOrder("first", "second");
+        assertThat(Collections.list(request.getAttributeNames())).containsExactlyInAnyOrder("first", "second");
+    }
+
+    /**
+     * Mimics the servlet containers, which fail when a recycled request is used until it is reused.
+     */
+    private static class RecyclableHttpServletRequest extends MockHttpServletRequest {
+
+        private boolean recycled;
+
+        void recycle() {
+            clearAttributes();
+            setSession(null);
+            recycled = true;
+        }
+
+        void reuse() {
+            recycled = false;
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            checkNotRecycled();
+            return super.getAttribute(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            checkNotRecycled();
+            return super.getAttributeNames();
+        }
+
+        @Override
+        public HttpSession getSession(boolean create) {
+            checkNotRecycled();
+            return super.getSession(create);
+        }
+
+        private void checkNotRecycled() {
+            if (recycled) {
+                throw new IllegalStateException("The request object has been recycled");
+            }
+        }
+    }
+}
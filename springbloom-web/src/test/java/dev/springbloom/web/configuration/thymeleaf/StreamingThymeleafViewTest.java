@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 - Felipe Desiderati
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package dev.springbloom.web.configuration.thymeleaf;
+
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StreamingThymeleafViewTest {
+
+    private static final String TEMPLATE = "<p th:each=\"item : ${items}\" th:text=\"${item}\">item</p>";
+
+    private StaticWebApplicationContext applicationContext;
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        MockServletContext servletContext = new MockServletContext();
+        applicationContext = new StaticWebApplicationContext();
+        applicationContext.setServletContext(servletContext);
+        applicationContext.refresh();
+        request = new MockHttpServletRequest(servletContext);
+        request.setAttribute(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE, applicationContext);
+    }
+
+    @Test
+    void shouldSendTheTemplateInChunksWhileRendering() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        newView().render(Map.of("items", new String[] {"first", "second", "third"}), request, response);
+
+        assertThat(response.getContentAsString()).isEqualTo("<p>first</p><p>second</p><p>third</p>");
+        // The first chunk has been flushed, before the end of the rendering.
+        assertThat(response.isCommitted()).isTrue();
+    }
+
+    @Test
+    void shouldFailWhenTheResponseCanNotBeSent() {
+        HttpServletResponseWrapper response = new HttpServletResponseWrapper(new MockHttpServletResponse()) {
+            @Override
+            public PrintWriter getWriter() {
+                return new PrintWriter(new Writer() {
+                    @Override
+                    public void write(char[] buf, int off, int len) throws IOException {
+                        throw new IOException("Broken pipe");
+                    }
+
+                    @Override
+                    public void flush() {
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                });
+            }
+        };
+
+        IOException exception = assertThrows(IOException.class, () ->
+            newView().render(Map.of("items", new String[] {"first", "second", "third"}), request, response)
+        );
+        assertThat(exception).hasMessageContaining("client may have disconnected");
+    }
+
+    private StreamingThymeleafView newView() {
+        StringTemplateResolver resolver = new StringTemplateResolver();
+        resolver.setTemplateMode(TemplateMode.HTML);
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        StreamingThymeleafView view = new StreamingThymeleafView();
+        view.setApplicationContext(applicationContext);
+        view.setTemplateEngine(templateEngine);
+        view.setTemplateName(TEMPLATE);
+        view.setFlushThreshold(4);
+        return view;
+    }
+}